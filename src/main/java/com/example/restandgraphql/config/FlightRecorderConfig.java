@@ -0,0 +1,63 @@
+package com.example.restandgraphql.config;
+
+import com.example.restandgraphql.jfr.FlightRecordingJackson2HttpMessageConverter;
+import com.example.restandgraphql.jfr.RepositoryFlightRecorderInterceptor;
+import com.example.restandgraphql.jfr.SqlCaptureStatementInspector;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * 요청 처리 경로에 사용자 정의 JFR(JDK Flight Recorder) 이벤트를 연결하는 설정 클래스입니다.
+ * 리포지토리 호출, 실행 SQL, JSON 직렬화 구간을 이벤트로 기록합니다.
+ * (REST 핸들러는 WebConfig, GraphQL 필드 조회는 계측기 컴포넌트에서 기록합니다)
+ */
+@Configuration // 스프링의 설정 클래스임을 나타냅니다.
+public class FlightRecorderConfig {
+
+    /**
+     * 리포지토리 호출 동안 실행된 SQL을 수집하도록 Hibernate에 StatementInspector를 등록합니다.
+     *
+     * @return Hibernate 설정 커스터마이저
+     */
+    @Bean // 스프링 컨테이너에서 관리할 Bean으로 등록합니다.
+    public HibernatePropertiesCustomizer sqlCaptureHibernatePropertiesCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlCaptureStatementInspector());
+    }
+
+    /**
+     * 모든 Spring Data 리포지토리 프록시에 JFR 이벤트 인터셉터를 추가합니다.
+     * 빈 후처리기이므로 다른 빈보다 먼저 생성될 수 있도록 static으로 선언합니다.
+     *
+     * @return 리포지토리 팩토리 빈 후처리기
+     */
+    @Bean // 스프링 컨테이너에서 관리할 Bean으로 등록합니다.
+    public static BeanPostProcessor repositoryFlightRecorderPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) ->
+                                    proxyFactory.addAdvice(new RepositoryFlightRecorderInterceptor())));
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * JSON 직렬화 구간을 기록하는 Jackson 메시지 컨버터로 기본 JSON 컨버터를 대체합니다.
+     *
+     * @param objectMapper 스프링 부트가 구성한 ObjectMapper
+     * @return JSON 메시지 컨버터
+     */
+    @Bean // 스프링 컨테이너에서 관리할 Bean으로 등록합니다.
+    public FlightRecordingJackson2HttpMessageConverter flightRecordingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new FlightRecordingJackson2HttpMessageConverter(objectMapper);
+    }
+}
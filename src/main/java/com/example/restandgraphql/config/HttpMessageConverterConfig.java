@@ -0,0 +1,58 @@
+package com.example.restandgraphql.config;
+
+import com.example.restandgraphql.converter.RestaurantProtobufHttpMessageConverter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * REST API의 바이너리 콘텐츠 협상을 설정하는 클래스입니다.
+ * Accept / Content-Type 헤더에 따라 JSON 외에 CBOR, Smile, Protobuf 형식으로 요청과 응답을 주고받습니다.
+ * JSON 컨버터가 앞에 위치하므로 Accept 헤더가 없거나 와일드카드인 요청은 계속 JSON으로 응답합니다.
+ */
+@Configuration // 스프링의 설정 클래스임을 나타냅니다.
+public class HttpMessageConverterConfig implements WebMvcConfigurer {
+
+    /**
+     * application/cbor 형식의 메시지 컨버터를 등록합니다.
+     * JSON과 같은 Jackson 설정(날짜 형식 등)을 사용합니다.
+     *
+     * @param builder 스프링 부트가 구성한 ObjectMapper 빌더
+     * @return CBOR 메시지 컨버터
+     */
+    @Bean // 스프링 컨테이너에서 관리할 Bean으로 등록합니다.
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * application/x-jackson-smile 형식의 메시지 컨버터를 등록합니다.
+     * JSON과 같은 Jackson 설정(날짜 형식 등)을 사용합니다.
+     *
+     * @param builder 스프링 부트가 구성한 ObjectMapper 빌더
+     * @return Smile 메시지 컨버터
+     */
+    @Bean // 스프링 컨테이너에서 관리할 Bean으로 등록합니다.
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    /**
+     * application/x-protobuf 형식의 메시지 컨버터를 기본 컨버터 목록의 마지막에 추가합니다.
+     * 빈으로 등록하면 JSON 컨버터보다 앞에 놓이므로 목록을 직접 확장합니다.
+     *
+     * @param converters 구성된 메시지 컨버터 목록
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new RestaurantProtobufHttpMessageConverter());
+    }
+}
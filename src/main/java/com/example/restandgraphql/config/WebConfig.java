@@ -0,0 +1,34 @@
+package com.example.restandgraphql.config;
+
+import com.example.restandgraphql.jfr.FlightRecorderHandlerInterceptor;
+import com.example.restandgraphql.limit.RestConcurrencyLimitInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Spring MVC 관련 설정 클래스입니다.
+ * REST API 요청에 적용할 인터셉터를 등록합니다.
+ */
+@Configuration // 스프링의 설정 클래스임을 나타냅니다.
+@RequiredArgsConstructor // 생성자 주입을 위한 롬복 어노테이션
+public class WebConfig implements WebMvcConfigurer {
+
+    private final FlightRecorderHandlerInterceptor flightRecorderHandlerInterceptor; // JFR 이벤트 기록 인터셉터
+    private final RestConcurrencyLimitInterceptor restConcurrencyLimitInterceptor; // 동시 처리 한도 인터셉터
+
+    /**
+     * 레스토랑 REST API 경로에 JFR 이벤트 기록 인터셉터와 동시 처리 한도 인터셉터를 등록합니다.
+     * 한도 초과로 거절된 요청도 기록되도록 JFR 인터셉터를 먼저 등록합니다.
+     *
+     * @param registry 인터셉터 레지스트리
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(flightRecorderHandlerInterceptor)
+                .addPathPatterns("/v1/restaurants", "/v1/restaurants/**");
+        registry.addInterceptor(restConcurrencyLimitInterceptor)
+                .addPathPatterns("/v1/restaurants", "/v1/restaurants/**");
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.restandgraphql.controller;
+
+import com.example.restandgraphql.config.GraphQLFieldExecutor;
+import com.example.restandgraphql.dto.ErrorResponseDto;
+import com.example.restandgraphql.dto.GraphQLOperationRequest;
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.graphql.GraphQlResponse;
+import org.springframework.graphql.server.WebGraphQlHandler;
+import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.graphql.support.DefaultGraphQlRequest;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 여러 GraphQL 작업을 하나의 HTTP 요청으로 받아 처리하는 컨트롤러입니다.
+ * 각 작업은 /graphql 요청과 같은 WebGraphQlHandler(인터셉터, 요청 헤더/쿠키 포함)를 거쳐
+ * GraphQL 전용 스레드 풀에서 동시에 실행되며, 응답은 요청한 순서대로 배열에 담겨 반환됩니다.
+ */
+@RestController
+@RequiredArgsConstructor // 생성자 주입을 위한 롬복 어노테이션
+public class GraphQLBatchController {
+
+    private static final int MAX_BATCH_SIZE = 20; // 한 번에 처리할 수 있는 최대 작업 수
+
+    private final WebGraphQlHandler webGraphQlHandler;        // GraphQL over HTTP 처리기 (인터셉터 체인 포함)
+    private final GraphQLFieldExecutor graphQLFieldExecutor;  // 작업 병렬 실행용 스레드 풀
+
+    /**
+     * 배열로 전달된 GraphQL 작업들을 동시에 실행합니다.
+     * 
+     * @param operations 실행할 GraphQL 작업 목록 (최대 20개)
+     * @param headers 요청 헤더 (각 작업에 그대로 전달)
+     * @param request HTTP 요청
+     * @return 작업별 GraphQL 응답 목록 (요청 순서와 동일)
+     */
+    @Operation(summary = "GraphQL 배치 실행", description = "여러 GraphQL 작업을 하나의 요청으로 받아 동시에 실행합니다.", responses = {
+        @ApiResponse(responseCode = "200", description = "GraphQL 배치 실행 성공"),
+        @ApiResponse(responseCode = "400", description = "빈 배열, 최대 작업 수 초과 또는 query 누락", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @PostMapping("/graphql/batch")
+    public Mono<List<Map<String, Object>>> executeBatch(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "GraphQL 작업 목록", required = true,
+                    content = @Content(examples = @ExampleObject(value =
+                            """
+                            [
+                              { "query": "{ getRestaurants(page: 0, size: 10, sort: \\"id,asc\\") { content { id name } } }" },
+                              { "query": "{ searchRestaurants(name: \\"김밥\\", page: 0, size: 10, sort: \\"id,asc\\") { content { id name } } }" }
+                            ]
+                            """)))
+            @RequestBody @NotEmpty(message = "실행할 작업이 없습니다") List<@Valid GraphQLOperationRequest> operations,
+            @RequestHeader HttpHeaders headers,
+            HttpServletRequest request) {
+        if (operations.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 실행할 수 있는 작업은 최대 " + MAX_BATCH_SIZE + "개입니다.");
+        }
+        URI uri = ServletUriComponentsBuilder.fromRequest(request).build().toUri();
+        MultiValueMap<String, HttpCookie> cookies = cookiesOf(request);
+        InetSocketAddress remoteAddress = InetSocketAddress.createUnresolved(request.getRemoteAddr(), request.getRemotePort());
+        Map<String, Object> attributes = attributesOf(request);
+        Locale locale = LocaleContextHolder.getLocale();
+        ContextSnapshot snapshot = ContextSnapshotFactory.builder().build().captureAll(); // 요청 스레드의 ThreadLocal 값 전달
+
+        // 모든 작업을 스레드 풀에서 동시에 시작한 뒤 요청 순서대로 결과를 모음
+        // (Mutation처럼 동기로 실행되는 필드도 요청 스레드에서 차례로 실행되지 않도록 작업 단위로 subscribeOn)
+        return Flux.fromIterable(operations)
+                .flatMapSequential(operation -> Mono.defer(() -> webGraphQlHandler.handleRequest(new WebGraphQlRequest(
+                                uri, headers, cookies, remoteAddress, attributes,
+                                new DefaultGraphQlRequest(operation.getQuery(), operation.getOperationName(),
+                                        operation.getVariables(), operation.getExtensions()),
+                                UUID.randomUUID().toString(), locale)))
+                        .subscribeOn(graphQLFieldExecutor.scheduler())
+                        .contextWrite(snapshot::updateContext))
+                .map(GraphQlResponse::toMap)
+                .collectList();
+    }
+
+    private static MultiValueMap<String, HttpCookie> cookiesOf(HttpServletRequest request) {
+        MultiValueMap<String, HttpCookie> cookies = new LinkedMultiValueMap<>();
+        if (request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                cookies.add(cookie.getName(), new HttpCookie(cookie.getName(), cookie.getValue()));
+            }
+        }
+        return cookies;
+    }
+
+    private static Map<String, Object> attributesOf(HttpServletRequest request) {
+        Map<String, Object> attributes = new HashMap<>();
+        for (String name : Collections.list(request.getAttributeNames())) {
+            attributes.put(name, request.getAttribute(name));
+        }
+        return attributes;
+    }
+}
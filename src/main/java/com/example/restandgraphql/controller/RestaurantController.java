@@ -3,6 +3,7 @@ package com.example.restandgraphql.controller;
 import com.example.restandgraphql.dto.RestaurantPage;
 import com.example.restandgraphql.entity.Restaurant;
 import com.example.restandgraphql.service.RestaurantService;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -18,7 +19,13 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import com.example.restandgraphql.dto.ErrorResponseDto;
+import com.example.restandgraphql.dto.RestaurantLookupRequest;
+import com.example.restandgraphql.dto.RestaurantLookupResponse;
 import com.example.restandgraphql.dto.RestaurantPageResponse;
+import com.example.restandgraphql.dto.RestaurantSuggestion;
+import com.example.restandgraphql.limit.ReadOnlyEndpoint;
+
+import java.util.List;
 
 import static com.example.restandgraphql.util.SortUtils.parseSort;
 
@@ -62,6 +69,44 @@ public class RestaurantController {
         return ResponseEntity.ok(RestaurantPageResponse.from(restaurantPage));
     }
 
+    /**
+     * 여러 ID의 레스토랑을 한 번에 조회합니다.
+     * 중복 ID는 제거되고 요청한 순서대로 반환되며, 존재하지 않는 ID는 missingIds로 반환합니다.
+     * 
+     * @param ids 조회할 레스토랑 ID 목록 (예: "3,1,2")
+     * @return 조회된 레스토랑 목록과 찾지 못한 ID 목록
+     */
+    @Operation(summary = "레스토랑 다건 조회", description = "여러 ID의 레스토랑을 한 번에 조회합니다.", responses = {
+        @ApiResponse(responseCode = "200", description = "레스토랑 다건 조회 성공",
+                content = @Content(schema = @Schema(implementation = RestaurantLookupResponse.class))),
+        @ApiResponse(responseCode = "400", description = "빈 ID 포함 또는 최대 개수 초과", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @GetMapping(params = "ids")
+    public ResponseEntity<RestaurantLookupResponse> getRestaurantsByIds(
+            @Parameter(description = "조회할 레스토랑 ID 목록 (중복 제외 최대 1000개)", example = "3,1,2")
+            @RequestParam List<Long> ids) {
+        return ResponseEntity.ok(restaurantService.getRestaurantsByIds(ids));
+    }
+
+    /**
+     * 여러 ID의 레스토랑을 한 번에 조회합니다.
+     * 쿼리 문자열에 담기 어려운 많은 수의 ID를 요청 본문으로 전달할 때 사용합니다.
+     * 
+     * @param request 조회할 레스토랑 ID 목록
+     * @return 조회된 레스토랑 목록과 찾지 못한 ID 목록
+     */
+    @Operation(summary = "레스토랑 다건 조회 (본문)", description = "요청 본문의 여러 ID로 레스토랑을 한 번에 조회합니다.", responses = {
+        @ApiResponse(responseCode = "200", description = "레스토랑 다건 조회 성공",
+                content = @Content(schema = @Schema(implementation = RestaurantLookupResponse.class))),
+        @ApiResponse(responseCode = "400", description = "유효성 검증 실패", content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @PostMapping("/lookup")
+    @ReadOnlyEndpoint // 본문을 받는 조회 요청이므로 조회 리미터를 사용
+    public ResponseEntity<RestaurantLookupResponse> lookupRestaurants(
+            @RequestBody @Valid RestaurantLookupRequest request) {
+        return ResponseEntity.ok(restaurantService.getRestaurantsByIds(request.getIds()));
+    }
+
     /**
      * 이름으로 레스토랑을 검색하고 페이징된 결과를 반환합니다.
      * 
@@ -94,6 +139,28 @@ public class RestaurantController {
         return ResponseEntity.ok(RestaurantPageResponse.from(restaurantPage));
     }
 
+    /**
+     * 이름의 접두사로 레스토랑 자동완성 결과를 조회합니다.
+     * 검색창의 키 입력마다 호출되는 용도로, 데이터베이스 대신 메모리 인덱스에서 인기순으로 응답합니다.
+     * 
+     * @param prefix 검색할 접두사 (입력 중인 한글, 초성 포함)
+     * @param limit 최대 결과 수
+     * @return 자동완성 결과 목록
+     */
+    @Operation(summary = "레스토랑 자동완성", description = "이름의 접두사(초성 포함)로 레스토랑을 인기순으로 조회합니다.", responses = {
+        @ApiResponse(responseCode = "200", description = "레스토랑 자동완성 성공",
+                content = @Content(array = @ArraySchema(schema = @Schema(implementation = RestaurantSuggestion.class))))
+    })
+    @GetMapping("/suggest")
+    public ResponseEntity<List<RestaurantSuggestion>> suggestRestaurants(
+            @Parameter(description = "검색할 접두사 (입력 중인 한글, 초성 포함)", example = "ㄱㅂ")
+            @RequestParam String prefix,
+
+            @Parameter(description = "최대 결과 수 (최대 20)", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(restaurantService.suggestRestaurants(prefix, limit));
+    }
+
     /**
      * ID를 기준으로 특정 레스토랑의 상세 정보를 조회합니다.
      * 존재하지 않는 ID인 경우 404 응답을 반환합니다.
@@ -1,6 +1,9 @@
 package com.example.restandgraphql.controller;
 
+import com.example.restandgraphql.config.GraphQLFieldExecutor;
+import com.example.restandgraphql.dto.RestaurantLookupResponse;
 import com.example.restandgraphql.dto.RestaurantPage;
+import com.example.restandgraphql.dto.RestaurantSuggestion;
 import com.example.restandgraphql.entity.Restaurant;
 import com.example.restandgraphql.service.RestaurantService;
 import jakarta.validation.constraints.NotBlank;
@@ -8,12 +11,18 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.data.method.annotation.SubscriptionMapping;
 import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static com.example.restandgraphql.util.SortUtils.parseSort;
 
@@ -21,15 +30,18 @@ import static com.example.restandgraphql.util.SortUtils.parseSort;
 /**
  * GraphQL API를 통해 레스토랑 관련 요청을 처리하는 컨트롤러입니다.
  * 레스토랑의 조회, 생성, 수정, 삭제 등의 기능을 제공합니다.
+ * 데이터베이스를 조회하는 Query 필드는 CompletableFuture를 반환하여 한 요청의 여러 루트 필드가 병렬로 실행됩니다.
  */
 @Controller
 @RequiredArgsConstructor // 생성자 주입을 위한 롬복 어노테이션
 public class RestaurantGraphQLResolver {
 
     private final RestaurantService restaurantService; // 레스토랑 서비스 의존성 주입
+    private final GraphQLFieldExecutor graphQLFieldExecutor; // 루트 필드 병렬 실행용 스레드 풀
 
     /**
      * 전체 레스토랑 목록을 페이징하여 조회합니다.
+     * 전체 개수 조회는 totalElements 또는 totalPages 필드를 요청한 경우에만 실행됩니다.
      * 
      * @param page 페이지 번호 (0부터 시작)
      * @param size 한 페이지당 보여줄 항목 수
@@ -37,13 +49,34 @@ public class RestaurantGraphQLResolver {
      * @return 페이징된 레스토랑 목록
      */
     @SchemaMapping(typeName = "Query") // GraphQL Query 타입에 매핑
-    public RestaurantPage getRestaurants(
+    public CompletableFuture<RestaurantPage> getRestaurants(
+            @Argument int page,
+            @Argument int size,
+            @Argument String sort) {
+        Pageable pageable = PageRequest.of(page, size, parseSort(sort));
+        return graphQLFieldExecutor.supplyAsync(() -> {
+            Slice<Restaurant> restaurantSlice = restaurantService.getRestaurantSlice(pageable);
+            return new RestaurantPage(restaurantSlice, restaurantService::countRestaurants);
+        });
+    }
+
+    /**
+     * 레스토랑 목록을 조회되는 대로 하나씩 전달합니다.
+     * 큰 페이지를 요청할 때 전체 결과를 기다리지 않고 첫 결과부터 받을 수 있습니다.
+     * (HTTP에서는 Accept: text/event-stream 요청으로 SSE를 통해 전달됩니다)
+     * 
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 한 페이지당 보여줄 항목 수
+     * @param sort 정렬 기준 (예: "name,desc")
+     * @return 레스토랑 스트림
+     */
+    @SubscriptionMapping // GraphQL Subscription에 매핑
+    public Flux<Restaurant> streamRestaurants(
             @Argument int page,
             @Argument int size,
             @Argument String sort) {
         Pageable pageable = PageRequest.of(page, size, parseSort(sort));
-        Page<Restaurant> restaurantPage = restaurantService.getAllRestaurants(pageable);
-        return new RestaurantPage(restaurantPage);
+        return restaurantService.streamRestaurants(pageable);
     }
 
     /**
@@ -56,15 +89,42 @@ public class RestaurantGraphQLResolver {
      * @return 검색된 레스토랑 목록
      */
     @QueryMapping // GraphQL Query에 매핑
-    public RestaurantPage searchRestaurants(
+    public CompletableFuture<RestaurantPage> searchRestaurants(
             @Argument String name,
             @Argument int page,
             @Argument int size,
             @Argument String sort) {
 
         Pageable pageable = PageRequest.of(page, size, parseSort(sort));
-        Page<Restaurant> restaurantPage = restaurantService.searchRestaurants(name, pageable);
-        return new RestaurantPage(restaurantPage);
+        return graphQLFieldExecutor.supplyAsync(() -> {
+            Page<Restaurant> restaurantPage = restaurantService.searchRestaurants(name, pageable);
+            return new RestaurantPage(restaurantPage);
+        });
+    }
+
+    /**
+     * 여러 ID의 레스토랑을 한 번에 조회합니다.
+     * 
+     * @param ids 조회할 레스토랑 ID 목록
+     * @return 조회된 레스토랑 목록과 찾지 못한 ID 목록
+     */
+    @QueryMapping // GraphQL Query에 매핑
+    public CompletableFuture<RestaurantLookupResponse> restaurantsByIds(@Argument List<Long> ids) {
+        return graphQLFieldExecutor.supplyAsync(() -> restaurantService.getRestaurantsByIds(ids));
+    }
+
+    /**
+     * 이름의 접두사로 레스토랑 자동완성 결과를 인기순으로 조회합니다.
+     * 
+     * @param prefix 검색할 접두사 (입력 중인 한글, 초성 포함)
+     * @param limit 최대 결과 수
+     * @return 자동완성 결과 목록
+     */
+    @QueryMapping // GraphQL Query에 매핑
+    public List<RestaurantSuggestion> suggestRestaurants(
+            @Argument String prefix,
+            @Argument int limit) {
+        return restaurantService.suggestRestaurants(prefix, limit);
     }
 
     /**
@@ -0,0 +1,199 @@
+package com.example.restandgraphql.converter;
+
+import com.example.restandgraphql.dto.ErrorResponseDto;
+import com.example.restandgraphql.dto.RestaurantPageResponse;
+import com.example.restandgraphql.entity.Restaurant;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 레스토랑 API의 요청/응답을 Protobuf 형식으로 변환하는 메시지 컨버터입니다.
+ * 스키마는 classpath:proto/restaurant.proto에 정의되어 있으며,
+ * 코드 생성 없이 엔티티와 DTO를 해당 스키마의 와이어 포맷으로 직접 읽고 씁니다.
+ */
+public class RestaurantProtobufHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    /** Protobuf 미디어 타입 */
+    public static final MediaType PROTOBUF = new MediaType("application", "x-protobuf");
+
+    // 태그(필드 번호 << 3 | 와이어 타입)를 만들 때 사용하는 와이어 타입
+    private static final int VARINT = WireFormat.WIRETYPE_VARINT;
+    private static final int LENGTH_DELIMITED = WireFormat.WIRETYPE_LENGTH_DELIMITED;
+
+    public RestaurantProtobufHttpMessageConverter() {
+        super(PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == Restaurant.class
+                || clazz == RestaurantPageResponse.class
+                || clazz == ErrorResponseDto.class;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        CodedInputStream input = CodedInputStream.newInstance(inputMessage.getBody());
+        if (clazz == Restaurant.class) {
+            return readRestaurant(input);
+        }
+        if (clazz == RestaurantPageResponse.class) {
+            return readPage(input);
+        }
+        return readError(input);
+    }
+
+    @Override
+    protected void writeInternal(Object value, HttpOutputMessage outputMessage) throws IOException {
+        CodedOutputStream output = CodedOutputStream.newInstance(outputMessage.getBody());
+        if (value instanceof Restaurant restaurant) {
+            writeRestaurant(output, restaurant);
+        } else if (value instanceof RestaurantPageResponse page) {
+            writePage(output, page);
+        } else if (value instanceof ErrorResponseDto error) {
+            writeError(output, error);
+        }
+        output.flush();
+    }
+
+    // message Restaurant
+
+    private static void writeRestaurant(CodedOutputStream output, Restaurant restaurant) throws IOException {
+        if (restaurant.getId() != null) {
+            output.writeInt64(1, restaurant.getId());
+        }
+        writeString(output, 2, restaurant.getName());
+        writeString(output, 3, restaurant.getAddress());
+        writeString(output, 4, restaurant.getPhoneNumber());
+    }
+
+    private static int restaurantSize(Restaurant restaurant) {
+        int size = 0;
+        if (restaurant.getId() != null) {
+            size += CodedOutputStream.computeInt64Size(1, restaurant.getId());
+        }
+        size += stringSize(2, restaurant.getName());
+        size += stringSize(3, restaurant.getAddress());
+        size += stringSize(4, restaurant.getPhoneNumber());
+        return size;
+    }
+
+    private static Restaurant readRestaurant(CodedInputStream input) throws IOException {
+        Restaurant restaurant = new Restaurant();
+        while (true) {
+            int tag = input.readTag();
+            // 필드 번호와 와이어 타입이 모두 일치할 때만 읽고, 와이어 타입이 다른 필드는 알 수 없는 필드처럼 건너뜀
+            switch (tag) {
+                case 0 -> {
+                    return restaurant; // 메시지 끝
+                }
+                case 1 << 3 | VARINT -> restaurant.setId(input.readInt64());
+                case 2 << 3 | LENGTH_DELIMITED -> restaurant.setName(input.readStringRequireUtf8());
+                case 3 << 3 | LENGTH_DELIMITED -> restaurant.setAddress(input.readStringRequireUtf8());
+                case 4 << 3 | LENGTH_DELIMITED -> restaurant.setPhoneNumber(input.readStringRequireUtf8());
+                default -> input.skipField(tag); // 알 수 없는 필드는 무시 (스키마 확장 호환)
+            }
+        }
+    }
+
+    // message RestaurantPage
+
+    private static void writePage(CodedOutputStream output, RestaurantPageResponse page) throws IOException {
+        if (page.getContent() != null) {
+            for (Restaurant restaurant : page.getContent()) {
+                output.writeTag(1, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                output.writeUInt32NoTag(restaurantSize(restaurant));
+                writeRestaurant(output, restaurant);
+            }
+        }
+        if (page.getTotalPages() != 0) {
+            output.writeInt32(2, page.getTotalPages());
+        }
+        if (page.getTotalElements() != 0) {
+            output.writeInt64(3, page.getTotalElements());
+        }
+        if (page.getSize() != 0) {
+            output.writeInt32(4, page.getSize());
+        }
+        if (page.getNumber() != 0) {
+            output.writeInt32(5, page.getNumber());
+        }
+    }
+
+    private static RestaurantPageResponse readPage(CodedInputStream input) throws IOException {
+        List<Restaurant> content = new ArrayList<>();
+        RestaurantPageResponse.RestaurantPageResponseBuilder builder = RestaurantPageResponse.builder();
+        while (true) {
+            int tag = input.readTag();
+            switch (tag) {
+                case 0 -> {
+                    return builder.content(content).build(); // 메시지 끝
+                }
+                case 1 << 3 | LENGTH_DELIMITED -> {
+                    int limit = input.pushLimit(input.readRawVarint32());
+                    content.add(readRestaurant(input));
+                    input.popLimit(limit);
+                }
+                case 2 << 3 | VARINT -> builder.totalPages(input.readInt32());
+                case 3 << 3 | VARINT -> builder.totalElements(input.readInt64());
+                case 4 << 3 | VARINT -> builder.size(input.readInt32());
+                case 5 << 3 | VARINT -> builder.number(input.readInt32());
+                default -> input.skipField(tag);
+            }
+        }
+    }
+
+    // message ErrorResponse
+
+    private static void writeError(CodedOutputStream output, ErrorResponseDto error) throws IOException {
+        if (error.getTimestamp() != null) {
+            output.writeString(1, error.getTimestamp().toString());
+        }
+        if (error.getStatus() != 0) {
+            output.writeInt32(2, error.getStatus());
+        }
+        writeString(output, 3, error.getError());
+        writeString(output, 4, error.getMessage());
+        writeString(output, 5, error.getPath());
+    }
+
+    private static ErrorResponseDto readError(CodedInputStream input) throws IOException {
+        ErrorResponseDto.ErrorResponseDtoBuilder builder = ErrorResponseDto.builder();
+        while (true) {
+            int tag = input.readTag();
+            switch (tag) {
+                case 0 -> {
+                    return builder.build(); // 메시지 끝
+                }
+                case 1 << 3 | LENGTH_DELIMITED -> builder.timestamp(LocalDateTime.parse(input.readStringRequireUtf8()));
+                case 2 << 3 | VARINT -> builder.status(input.readInt32());
+                case 3 << 3 | LENGTH_DELIMITED -> builder.error(input.readStringRequireUtf8());
+                case 4 << 3 | LENGTH_DELIMITED -> builder.message(input.readStringRequireUtf8());
+                case 5 << 3 | LENGTH_DELIMITED -> builder.path(input.readStringRequireUtf8());
+                default -> input.skipField(tag);
+            }
+        }
+    }
+
+    // proto3 문자열 필드는 기본값(빈 값)일 때 생략
+
+    private static void writeString(CodedOutputStream output, int fieldNumber, String value) throws IOException {
+        if (value != null && !value.isEmpty()) {
+            output.writeString(fieldNumber, value);
+        }
+    }
+
+    private static int stringSize(int fieldNumber, String value) {
+        return value != null && !value.isEmpty() ? CodedOutputStream.computeStringSize(fieldNumber, value) : 0;
+    }
+}
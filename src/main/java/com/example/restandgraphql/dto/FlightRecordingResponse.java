@@ -0,0 +1,19 @@
+package com.example.restandgraphql.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 시작된 JFR 기록 정보를 담는 DTO 클래스입니다.
+ */
+@Getter // Lombok을 사용하여 모든 필드의 getter 메서드 자동 생성
+@Builder // Builder 패턴을 적용하여 객체 생성을 용이하게 함
+public class FlightRecordingResponse {
+    private final String name;        // 기록 이름
+    private final Instant startTime;  // 기록 시작 시각
+    private final Duration duration;  // 기록 시간 (지나면 자동으로 멈춤)
+    private final long maxSize;       // 최대 기록 크기 (바이트)
+}
@@ -0,0 +1,23 @@
+package com.example.restandgraphql.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+/**
+ * 배치 요청에 포함된 GraphQL 작업 하나를 담는 DTO 클래스입니다.
+ * 일반 GraphQL over HTTP 요청 본문과 같은 형식입니다.
+ */
+@Getter // Lombok을 사용하여 모든 필드의 getter 메서드 자동 생성
+@Setter // Lombok을 사용하여 모든 필드의 setter 메서드 자동 생성
+@NoArgsConstructor // Lombok: 파라미터가 없는 기본 생성자를 생성합니다
+public class GraphQLOperationRequest {
+    @NotBlank(message = "query는 필수입니다")
+    private String query;                     // GraphQL 문서
+    private String operationName;             // 실행할 작업 이름 (선택)
+    private Map<String, Object> variables;    // 변수 (선택)
+    private Map<String, Object> extensions;   // 확장 정보 (선택)
+}
@@ -0,0 +1,22 @@
+package com.example.restandgraphql.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 여러 ID로 레스토랑을 한 번에 조회하기 위한 요청 DTO 클래스입니다.
+ */
+@Getter // Lombok을 사용하여 모든 필드의 getter 메서드 자동 생성
+@Setter // Lombok을 사용하여 모든 필드의 setter 메서드 자동 생성
+@NoArgsConstructor // Lombok: 파라미터가 없는 기본 생성자를 생성합니다
+public class RestaurantLookupRequest {
+    @NotEmpty(message = "조회할 ID는 필수입니다")
+    @Schema(description = "조회할 레스토랑 ID 목록 (중복 제외 최대 1000개)", example = "[3, 1, 2]")
+    private List<@NotNull(message = "조회할 ID 목록에 빈 값이 포함될 수 없습니다") Long> ids;      // 조회할 레스토랑 ID 목록
+}
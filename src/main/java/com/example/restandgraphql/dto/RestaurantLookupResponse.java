@@ -0,0 +1,20 @@
+package com.example.restandgraphql.dto;
+
+import com.example.restandgraphql.entity.Restaurant;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.List;
+
+/**
+ * 여러 ID로 레스토랑을 한 번에 조회한 결과를 담는 DTO 클래스입니다.
+ * 존재하지 않는 ID가 있어도 전체 요청을 실패시키지 않고 missingIds로 알려줍니다.
+ */
+@Getter // Lombok을 사용하여 모든 필드의 getter 메서드 자동 생성
+@Builder // Builder 패턴을 적용하여 객체 생성을 용이하게 함
+@Jacksonized // Jackson이 빌더를 통해 역직렬화할 수 있도록 함 (서비스 간 통신 클라이언트용)
+public class RestaurantLookupResponse {
+    private List<Restaurant> content;     // 조회된 레스토랑 목록 (요청한 ID 순서, 중복 제거)
+    private List<Long> missingIds;        // 존재하지 않는 레스토랑 ID 목록
+}
@@ -1,33 +1,75 @@
 package com.example.restandgraphql.dto;
 
 import com.example.restandgraphql.entity.Restaurant;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
+import java.util.function.LongSupplier;
 
 /**
  * 레스토랑 페이징 정보를 담는 DTO 클래스입니다.
  * Spring Data의 Page 객체를 GraphQL API에서 사용하기 위해 변환합니다.
+ * Slice로부터 생성된 경우 전체 개수는 totalElements/totalPages 필드가 요청될 때 처음 조회합니다.
  */
 @Getter // Lombok을 사용하여 모든 필드의 getter 메서드 자동 생성
 public class RestaurantPage {
     private List<Restaurant> content;      // 현재 페이지의 레스토랑 목록
-    private int totalPages;               // 전체 페이지 수
-    private long totalElements;           // 전체 레스토랑 수
     private int size;                     // 페이지당 레스토랑 수
     private int number;                   // 현재 페이지 번호 (0부터 시작)
 
+    @Getter(AccessLevel.NONE)
+    private final LongSupplier countQuery; // 전체 레스토랑 수를 조회하는 함수
+    @Getter(AccessLevel.NONE)
+    private Long totalElements;           // 전체 레스토랑 수 (조회 전에는 null)
+
     /**
      * Spring Data의 Page 객체를 RestaurantPage DTO로 변환하는 생성자
-     * 
+     *
      * @param restaurantPage 변환할 Page<Restaurant> 객체
      */
     public RestaurantPage(Page<Restaurant> restaurantPage) {
         this.content = restaurantPage.getContent();           // 현재 페이지의 레스토랑 목록 설정
-        this.totalPages = restaurantPage.getTotalPages();     // 전체 페이지 수 설정
         this.totalElements = restaurantPage.getTotalElements(); // 전체 레스토랑 수 설정
         this.size = restaurantPage.getSize();                // 페이지 크기 설정
         this.number = restaurantPage.getNumber();            // 현재 페이지 번호 설정
+        this.countQuery = restaurantPage::getTotalElements;
+    }
+
+    /**
+     * Spring Data의 Slice 객체와 개수 조회 함수로 RestaurantPage DTO를 생성하는 생성자
+     * 개수 조회는 전체 개수가 처음 요청될 때 한 번만 실행됩니다.
+     *
+     * @param restaurantSlice 변환할 Slice<Restaurant> 객체
+     * @param countQuery 전체 레스토랑 수를 조회하는 함수
+     */
+    public RestaurantPage(Slice<Restaurant> restaurantSlice, LongSupplier countQuery) {
+        this.content = restaurantSlice.getContent();          // 현재 페이지의 레스토랑 목록 설정
+        this.size = restaurantSlice.getSize();               // 페이지 크기 설정
+        this.number = restaurantSlice.getNumber();           // 현재 페이지 번호 설정
+        this.countQuery = countQuery;
+    }
+
+    /**
+     * 전체 레스토랑 수를 반환합니다. 아직 조회하지 않았다면 이때 조회합니다.
+     *
+     * @return 전체 레스토랑 수
+     */
+    public synchronized long getTotalElements() {
+        if (totalElements == null) {
+            totalElements = countQuery.getAsLong();
+        }
+        return totalElements;
+    }
+
+    /**
+     * 전체 페이지 수를 반환합니다.
+     *
+     * @return 전체 페이지 수
+     */
+    public int getTotalPages() {
+        return size == 0 ? 1 : (int) Math.ceil((double) getTotalElements() / size);
     }
 }
@@ -3,6 +3,7 @@ package com.example.restandgraphql.dto;
 import com.example.restandgraphql.entity.Restaurant;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 import org.springframework.data.domain.Page;
 
 import java.util.List;
@@ -13,6 +14,7 @@ import java.util.List;
  */
 @Getter // Lombok을 사용하여 모든 필드의 getter 메서드 자동 생성
 @Builder // Builder 패턴을 적용하여 객체 생성을 용이하게 함
+@Jacksonized // Jackson이 빌더를 통해 역직렬화할 수 있도록 함 (서비스 간 통신 클라이언트용)
 public class RestaurantPageResponse {
     private List<Restaurant> content;      // 현재 페이지의 레스토랑 목록
     private int totalPages;               // 전체 페이지 수
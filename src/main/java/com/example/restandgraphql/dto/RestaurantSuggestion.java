@@ -0,0 +1,19 @@
+package com.example.restandgraphql.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 레스토랑 자동완성 결과를 담는 DTO 클래스입니다.
+ * 메모리 인덱스에서 바로 응답하기 위해 ID와 이름만 포함합니다.
+ */
+@Getter // Lombok을 사용하여 모든 필드의 getter 메서드 자동 생성
+@AllArgsConstructor // Lombok: 모든 필드를 파라미터로 받는 생성자를 생성합니다
+public class RestaurantSuggestion {
+    @Schema(description = "레스토랑 ID", example = "1")
+    private final Long id;      // 레스토랑 ID
+
+    @Schema(description = "레스토랑 이름", example = "맛있는 김밥")
+    private final String name;  // 레스토랑 이름
+}
@@ -0,0 +1,18 @@
+package com.example.restandgraphql.exception;
+
+import lombok.Getter;
+
+/**
+ * 동시 처리 한도를 초과하여 요청이 거절되었을 때 발생하는 예외입니다.
+ * REST API에서는 503 응답으로, GraphQL API에서는 GraphQL 에러로 변환됩니다.
+ */
+@Getter // Lombok: 모든 필드의 Getter 메서드를 자동 생성합니다
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds; // 재시도까지 권장 대기 시간 (초)
+
+    public ConcurrencyLimitExceededException(String limiterName, long retryAfterSeconds) {
+        super("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요. (" + limiterName + ")");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.restandgraphql.exception;
+
+/**
+ * 현재 JFR 기록 상태에서 요청한 작업을 수행할 수 없을 때 발생하는 예외입니다.
+ * (이미 진행 중인 기록이 있는데 시작하거나, 기록이 없는데 종료하는 경우)
+ * 관리용 엔드포인트에서 409 Conflict 응답으로 변환됩니다.
+ */
+public class FlightRecordingStateException extends IllegalStateException {
+
+    public FlightRecordingStateException(String message) {
+        super(message);
+    }
+}
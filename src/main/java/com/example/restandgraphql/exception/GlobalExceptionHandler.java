@@ -3,6 +3,7 @@ package com.example.restandgraphql.exception;
 import java.util.NoSuchElementException;
 
 import com.example.restandgraphql.dto.ErrorResponseDto;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ProblemDetail;
@@ -12,6 +13,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 import java.time.LocalDateTime;
 
@@ -22,6 +24,61 @@ import java.time.LocalDateTime;
 @RestControllerAdvice // 모든 컨트롤러에서 발생하는 예외를 처리하기 위한 어노테이션
 public class GlobalExceptionHandler {
 
+    /**
+     * 동시 처리 한도 초과로 거절된 요청을 처리하는 핸들러 메서드입니다.
+     * 503 Service Unavailable과 함께 Retry-After 헤더를 반환합니다.
+     * 
+     * @param ex 발생한 예외 객체
+     * @param request 웹 요청 정보
+     * @return 에러 응답 DTO를 포함한 ResponseEntity
+     */
+    @ExceptionHandler(ConcurrencyLimitExceededException.class)
+    public ResponseEntity<ErrorResponseDto> handleConcurrencyLimitExceeded(ConcurrencyLimitExceededException ex, WebRequest request) {
+        // 에러 응답 DTO 생성
+        ErrorResponseDto errorResponse = ErrorResponseDto.builder()
+                .timestamp(LocalDateTime.now())         // 현재 시간 기록
+                .status(503)                           // HTTP 상태 코드 503 설정
+                .error("Service Unavailable")          // 에러 종류 설정
+                .message(ex.getMessage())              // 구체적인 에러 메시지
+                .path(request.getDescription(false))   // 에러 발생 요청 경로
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds())) // 재시도 권장 시간
+                .body(errorResponse);
+    }
+
+    /**
+     * 잘못된 요청 값으로 발생한 예외를 처리하는 핸들러 메서드입니다.
+     * 요청 본문/파라미터 유효성 검증 실패나 서비스에서 거부한 입력(예: 최대 개수를 넘는 ID 목록)에 대해 400 Bad Request를 반환합니다.
+     * 
+     * @param ex 발생한 예외 객체
+     * @param request 웹 요청 정보
+     * @return 에러 응답 DTO를 포함한 ResponseEntity
+     */
+    @ExceptionHandler({IllegalArgumentException.class, MethodArgumentNotValidException.class,
+            HandlerMethodValidationException.class})
+    public ResponseEntity<ErrorResponseDto> handleBadRequest(Exception ex, WebRequest request) {
+        // 유효성 검증 실패는 첫 번째 위반 메시지만 전달
+        String message = ex.getMessage();
+        if (ex instanceof MethodArgumentNotValidException validationEx) {
+            message = validationEx.getBindingResult().getAllErrors().get(0).getDefaultMessage();
+        } else if (ex instanceof HandlerMethodValidationException validationEx) {
+            message = validationEx.getAllErrors().get(0).getDefaultMessage(); // 예: 빈 배치 요청
+        }
+
+        // 에러 응답 DTO 생성
+        ErrorResponseDto errorResponse = ErrorResponseDto.builder()
+                .timestamp(LocalDateTime.now())         // 현재 시간 기록
+                .status(400)                           // HTTP 상태 코드 400 설정
+                .error("Bad Request")                  // 에러 종류 설정
+                .message(message)                      // 구체적인 에러 메시지
+                .path(request.getDescription(false))   // 에러 발생 요청 경로
+                .build();
+
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
     /**
      * 모든 예외를 처리하는 기본 핸들러 메서드입니다.
      * 처리되지 않은 예외가 발생했을 때 500 Internal Server Error를 반환합니다.
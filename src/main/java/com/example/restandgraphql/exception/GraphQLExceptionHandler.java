@@ -5,9 +5,11 @@ import graphql.schema.DataFetchingEnvironment;
 import org.springframework.stereotype.Component;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 
 import org.springframework.graphql.execution.DataFetcherExceptionResolver;
+import org.springframework.graphql.execution.ErrorType;
 import reactor.core.publisher.Mono;
 
 /**
@@ -37,6 +39,32 @@ public class GraphQLExceptionHandler implements DataFetcherExceptionResolver {
             ));
         }
         
+        // ConcurrencyLimitExceededException(동시 처리 한도 초과)의 처리
+        if (ex instanceof ConcurrencyLimitExceededException limitEx) {
+            return Mono.just(Collections.singletonList(
+                GraphQLError.newError()
+                    .message(limitEx.getMessage())                      // 원본 예외 메시지 사용
+                    .path(env.getExecutionStepInfo().getPath())        // 에러 발생 경로 설정
+                    .location(env.getField().getSourceLocation())      // 에러 발생 위치 설정
+                    .extensions(Map.of(
+                        "code", "SERVICE_UNAVAILABLE",                  // 클라이언트가 구분할 수 있는 에러 코드
+                        "retryAfter", limitEx.getRetryAfterSeconds()))  // 재시도 권장 시간 (초)
+                    .build()
+            ));
+        }
+        
+        // IllegalArgumentException(잘못된 인자 값, 예: 최대 개수를 넘는 ID 목록)의 처리
+        if (ex instanceof IllegalArgumentException) {
+            return Mono.just(Collections.singletonList(
+                GraphQLError.newError()
+                    .errorType(ErrorType.BAD_REQUEST)                   // 클라이언트 입력 오류로 분류
+                    .message(ex.getMessage())                           // 원본 예외 메시지 사용
+                    .path(env.getExecutionStepInfo().getPath())        // 에러 발생 경로 설정
+                    .location(env.getField().getSourceLocation())      // 에러 발생 위치 설정
+                    .build()
+            ));
+        }
+        
         // 그 외 모든 예외에 대한 기본 에러 처리
         return Mono.just(Collections.singletonList(
             GraphQLError.newError()
@@ -0,0 +1,43 @@
+package com.example.restandgraphql.jfr;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * REST 핸들러 처리 구간마다 {@link RestHandlerEvent}를 기록하는 인터셉터입니다.
+ * JFR 기록이 진행 중이지 않으면 이벤트를 보관하지 않으므로 추가 비용이 거의 없습니다.
+ */
+@Component // 스프링 컴포넌트로 등록
+public class FlightRecorderHandlerInterceptor implements HandlerInterceptor {
+
+    private static final String EVENT_ATTRIBUTE = FlightRecorderHandlerInterceptor.class.getName() + ".EVENT";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RestHandlerEvent event = new RestHandlerEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            request.setAttribute(EVENT_ATTRIBUTE, event);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(EVENT_ATTRIBUTE) instanceof RestHandlerEvent event) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.method = request.getMethod();
+                event.uri = request.getRequestURI();
+                event.handler = handler instanceof HandlerMethod handlerMethod
+                        ? handlerMethod.getShortLogMessage()
+                        : String.valueOf(handler);
+                event.status = response.getStatus();
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.restandgraphql.jfr;
+
+import com.example.restandgraphql.dto.ErrorResponseDto;
+import com.example.restandgraphql.exception.FlightRecordingStateException;
+import com.example.restandgraphql.service.FlightRecordingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 운영 중 JFR(JDK Flight Recorder) 기록을 제어하는 액추에이터 엔드포인트입니다.
+ * 재배포 없이 기록을 시작/종료하고 .jfr 파일을 내려받을 수 있습니다.
+ * 관리 포트(management.server)로만 노출되며, app.profiling.enabled=true 인 경우에만 등록됩니다.
+ * <ul>
+ *   <li>POST /actuator/flightrecording {"durationSeconds": 60} - 기록 시작</li>
+ *   <li>DELETE /actuator/flightrecording - 기록 종료 및 .jfr 파일 다운로드</li>
+ * </ul>
+ * 기록 상태와 맞지 않는 요청(중복 시작, 기록 없이 종료)에는 409 Conflict를 반환합니다.
+ */
+@Component // 스프링 컴포넌트로 등록
+@WebEndpoint(id = "flightrecording") // HTTP로만 노출되는 액추에이터 엔드포인트
+@RequiredArgsConstructor // 생성자 주입을 위한 롬복 어노테이션
+@ConditionalOnProperty(prefix = "app.profiling", name = "enabled", havingValue = "true") // 설정으로 켠 경우에만 등록
+public class FlightRecordingEndpoint {
+
+    private static final long DEFAULT_DURATION_SECONDS = 60; // 기록 시간 기본값 (초)
+
+    private final FlightRecordingService flightRecordingService; // JFR 기록 서비스 의존성 주입
+
+    /**
+     * JFR 기록을 시작합니다. 지정한 시간이 지나면 기록은 자동으로 멈춥니다.
+     *
+     * @param durationSeconds 기록 시간 (초, 최대 600, 생략 시 60)
+     * @return 시작된 기록 정보, 이미 진행 중인 기록이 있으면 409 응답
+     */
+    @WriteOperation
+    public WebEndpointResponse<Object> start(@Nullable Long durationSeconds) {
+        long seconds = durationSeconds != null ? Math.max(1, durationSeconds) : DEFAULT_DURATION_SECONDS;
+        try {
+            return new WebEndpointResponse<>(flightRecordingService.start(Duration.ofSeconds(seconds)));
+        } catch (FlightRecordingStateException ex) {
+            ErrorResponseDto errorResponse = ErrorResponseDto.builder()
+                    .timestamp(LocalDateTime.now())         // 현재 시간 기록
+                    .status(HttpStatus.CONFLICT.value())   // HTTP 상태 코드 409 설정
+                    .error("Conflict")                     // 에러 종류 설정
+                    .message(ex.getMessage())              // 구체적인 에러 메시지
+                    .path("/actuator/flightrecording")     // 에러 발생 요청 경로
+                    .build();
+            return new WebEndpointResponse<>(errorResponse, HttpStatus.CONFLICT.value());
+        }
+    }
+
+    /**
+     * 진행 중이거나 자동으로 멈춘 JFR 기록을 종료하고 .jfr 파일을 반환합니다.
+     * 임시 파일은 전송이 끝나면 삭제됩니다.
+     *
+     * @return .jfr 기록 파일, 내려받을 기록이 없으면 본문 없는 409 응답
+     */
+    @DeleteOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<InputStreamResource> stop() {
+        Path file;
+        try {
+            file = flightRecordingService.stop();
+        } catch (FlightRecordingStateException ex) {
+            return new WebEndpointResponse<>(HttpStatus.CONFLICT.value());
+        }
+        try {
+            return new WebEndpointResponse<>(new InputStreamResource(
+                    Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE))); // 전송 후 임시 파일 삭제
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
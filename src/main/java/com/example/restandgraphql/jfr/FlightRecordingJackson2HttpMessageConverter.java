@@ -0,0 +1,84 @@
+package com.example.restandgraphql.jfr;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * JSON 직렬화 구간마다 {@link JsonSerializationEvent}를 기록하는 Jackson 메시지 컨버터입니다.
+ * JFR 기록이 진행 중이지 않으면 기본 컨버터와 동일하게 동작합니다.
+ */
+public class FlightRecordingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public FlightRecordingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage) throws IOException {
+        JsonSerializationEvent event = new JsonSerializationEvent();
+        if (!event.isEnabled()) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        CountingOutputMessage countingMessage = new CountingOutputMessage(outputMessage);
+        event.begin();
+        try {
+            super.writeInternal(object, type, countingMessage);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.valueType = object.getClass().getName();
+                event.bytes = countingMessage.count;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * 기록된 바이트 수를 세는 HttpOutputMessage 래퍼입니다.
+     */
+    private static final class CountingOutputMessage implements HttpOutputMessage {
+
+        private final HttpOutputMessage delegate;
+        private OutputStream body;
+        private long count;
+
+        private CountingOutputMessage(HttpOutputMessage delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            if (body == null) {
+                body = new FilterOutputStream(delegate.getBody()) {
+                    @Override
+                    public void write(int b) throws IOException {
+                        out.write(b);
+                        count++;
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        out.write(b, off, len);
+                        count += len;
+                    }
+                };
+            }
+            return body;
+        }
+    }
+}
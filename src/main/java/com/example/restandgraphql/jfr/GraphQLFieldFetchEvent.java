@@ -0,0 +1,31 @@
+package com.example.restandgraphql.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * GraphQL 필드 하나의 데이터 조회(fetch) 구간을 기록하는 JFR 이벤트입니다.
+ */
+@Name("com.example.restandgraphql.GraphQLFieldFetch")
+@Label("GraphQL Field Fetch")
+@Category({"RestAndGraphQL", "GraphQL"})
+@Description("RestaurantGraphQLResolver 필드 조회 구간")
+@StackTrace(false) // 구간 측정용 이벤트이므로 스택 트레이스는 기록하지 않음
+public class GraphQLFieldFetchEvent extends Event {
+
+    @Label("Parent Type")
+    String parentType;  // 필드가 속한 타입 (예: Query)
+
+    @Label("Field")
+    String field;       // 필드 이름
+
+    @Label("Path")
+    String path;        // 결과 경로 (예: /getRestaurants)
+
+    @Label("Success")
+    boolean success;    // 예외 없이 완료되었는지 여부
+}
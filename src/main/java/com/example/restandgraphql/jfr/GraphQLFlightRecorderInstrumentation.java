@@ -0,0 +1,69 @@
+package com.example.restandgraphql.jfr;
+
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import org.reactivestreams.Publisher;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * GraphQL 필드 조회마다 {@link GraphQLFieldFetchEvent}를 기록하는 계측기(Instrumentation)입니다.
+ * 단순 프로퍼티 조회는 제외하며, JFR 기록이 진행 중이지 않으면 원래 데이터 조회만 실행합니다.
+ */
+@Component // 스프링 컴포넌트로 등록 (GraphQL 자동 설정에서 계측기로 사용됨)
+public class GraphQLFlightRecorderInstrumentation extends SimplePerformantInstrumentation {
+
+    @Override
+    public DataFetcher<?> instrumentDataFetcher(DataFetcher<?> dataFetcher,
+                                                InstrumentationFieldFetchParameters parameters,
+                                                InstrumentationState state) {
+        if (parameters.isTrivialDataFetcher()) {
+            return dataFetcher;
+        }
+        return environment -> {
+            GraphQLFieldFetchEvent event = new GraphQLFieldFetchEvent();
+            if (!event.isEnabled()) {
+                return dataFetcher.get(environment);
+            }
+            event.begin();
+            Object result;
+            try {
+                result = dataFetcher.get(environment);
+            } catch (Exception ex) {
+                commit(event, environment, false);
+                throw ex;
+            }
+            // 비동기 결과는 완료 시점까지, 구독(Subscription) 스트림은 종료 또는 취소될 때까지를 구간으로 기록
+            if (result instanceof CompletionStage<?> stage) {
+                stage.whenComplete((value, error) -> commit(event, environment, error == null));
+                return result;
+            }
+            if (result instanceof Mono<?> mono) {
+                return mono.doFinally(signal -> commit(event, environment, signal != SignalType.ON_ERROR));
+            }
+            if (result instanceof Publisher<?> publisher) {
+                return Flux.from(publisher).doFinally(signal -> commit(event, environment, signal != SignalType.ON_ERROR));
+            }
+            commit(event, environment, true);
+            return result;
+        };
+    }
+
+    private static void commit(GraphQLFieldFetchEvent event, DataFetchingEnvironment environment, boolean success) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.parentType = environment.getExecutionStepInfo().getObjectType().getName();
+            event.field = environment.getField().getName();
+            event.path = environment.getExecutionStepInfo().getPath().toString();
+            event.success = success;
+            event.commit();
+        }
+    }
+}
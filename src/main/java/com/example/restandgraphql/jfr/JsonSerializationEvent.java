@@ -0,0 +1,27 @@
+package com.example.restandgraphql.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * REST 응답 객체의 Jackson JSON 직렬화 구간을 기록하는 JFR 이벤트입니다.
+ */
+@Name("com.example.restandgraphql.JsonSerialization")
+@Label("JSON Serialization")
+@Category({"RestAndGraphQL", "Jackson"})
+@Description("Jackson을 이용한 REST 응답 직렬화 구간")
+@StackTrace(false) // 구간 측정용 이벤트이므로 스택 트레이스는 기록하지 않음
+public class JsonSerializationEvent extends Event {
+
+    @Label("Value Type")
+    String valueType;   // 직렬화한 객체 타입
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;         // 기록된 응답 크기
+}
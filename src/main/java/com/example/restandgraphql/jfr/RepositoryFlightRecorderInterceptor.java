@@ -0,0 +1,65 @@
+package com.example.restandgraphql.jfr;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.BaseStream;
+
+/**
+ * 리포지토리 메서드 호출마다 {@link RepositoryQueryEvent}를 기록하는 인터셉터입니다.
+ * JFR 기록이 진행 중일 때만 SQL을 수집하며, 그렇지 않으면 원래 메서드만 호출합니다.
+ */
+public class RepositoryFlightRecorderInterceptor implements MethodInterceptor {
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        RepositoryQueryEvent event = new RepositoryQueryEvent();
+        if (!event.isEnabled()) {
+            return invocation.proceed();
+        }
+
+        List<String> previous = SqlCaptureStatementInspector.start();
+        Object result = null;
+        event.begin();
+        try {
+            result = invocation.proceed();
+            return result;
+        } finally {
+            event.end();
+            List<String> statements = SqlCaptureStatementInspector.stop(previous);
+            if (event.shouldCommit()) {
+                event.repositoryMethod = invocation.getMethod().getDeclaringClass().getSimpleName()
+                        + "." + invocation.getMethod().getName();
+                event.sql = String.join("\n", statements);
+                event.rowCount = rowCount(result);
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * 리포지토리 메서드의 반환값으로부터 조회된 행 수를 계산합니다.
+     */
+    private static long rowCount(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof BaseStream<?, ?>) {
+            return -1; // 스트림은 반환 시점에 아직 읽히지 않음
+        }
+        return 1; // 단건 엔티티, count/exists 등 스칼라 결과
+    }
+}
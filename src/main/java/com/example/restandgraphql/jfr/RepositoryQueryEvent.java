@@ -0,0 +1,28 @@
+package com.example.restandgraphql.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 리포지토리 메서드 호출 하나와 그 동안 실행된 SQL을 기록하는 JFR 이벤트입니다.
+ */
+@Name("com.example.restandgraphql.RepositoryQuery")
+@Label("Repository Query")
+@Category({"RestAndGraphQL", "Repository"})
+@Description("RestaurantRepository 메서드 호출과 실행된 SQL")
+@StackTrace(false) // 구간 측정용 이벤트이므로 스택 트레이스는 기록하지 않음
+public class RepositoryQueryEvent extends Event {
+
+    @Label("Repository Method")
+    String repositoryMethod; // 호출된 리포지토리 메서드
+
+    @Label("SQL")
+    String sql;              // 실행된 SQL (여러 개인 경우 줄바꿈으로 구분)
+
+    @Label("Row Count")
+    long rowCount;           // 반환된 행 수 (스트림 결과는 -1)
+}
@@ -0,0 +1,31 @@
+package com.example.restandgraphql.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * REST 컨트롤러 핸들러 하나의 처리 구간을 기록하는 JFR 이벤트입니다.
+ */
+@Name("com.example.restandgraphql.RestHandler")
+@Label("REST Handler")
+@Category({"RestAndGraphQL", "REST"})
+@Description("RestaurantController 핸들러의 요청 처리 구간")
+@StackTrace(false) // 구간 측정용 이벤트이므로 스택 트레이스는 기록하지 않음
+public class RestHandlerEvent extends Event {
+
+    @Label("HTTP Method")
+    String method;      // HTTP 메서드
+
+    @Label("URI")
+    String uri;         // 요청 경로
+
+    @Label("Handler")
+    String handler;     // 처리한 컨트롤러 메서드
+
+    @Label("Status")
+    int status;         // 응답 상태 코드
+}
@@ -0,0 +1,52 @@
+package com.example.restandgraphql.jfr;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 리포지토리 호출 동안 Hibernate가 실행하는 SQL을 수집하는 StatementInspector입니다.
+ * {@link RepositoryFlightRecorderInterceptor}가 수집을 시작한 스레드에서만 SQL을 보관합니다.
+ */
+public class SqlCaptureStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>(); // 현재 스레드에서 수집 중인 SQL
+
+    @Override
+    public String inspect(String sql) {
+        List<String> captured = CAPTURED.get();
+        if (captured != null) {
+            captured.add(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * 현재 스레드에서 SQL 수집을 시작합니다.
+     *
+     * @return 이전에 수집 중이던 목록 (중첩 호출 시 {@link #stop(List)}에 전달하여 복원)
+     */
+    static List<String> start() {
+        List<String> previous = CAPTURED.get();
+        CAPTURED.set(new ArrayList<>());
+        return previous;
+    }
+
+    /**
+     * 현재 스레드의 SQL 수집을 끝내고 수집된 SQL을 반환합니다.
+     *
+     * @param previous {@link #start()}가 반환한 이전 목록
+     * @return 수집된 SQL 목록
+     */
+    static List<String> stop(List<String> previous) {
+        List<String> captured = CAPTURED.get();
+        if (previous != null) {
+            previous.addAll(captured); // 바깥 호출에도 SQL이 보이도록 합침
+            CAPTURED.set(previous);
+        } else {
+            CAPTURED.remove();
+        }
+        return captured;
+    }
+}
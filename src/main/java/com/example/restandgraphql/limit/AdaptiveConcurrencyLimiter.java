@@ -0,0 +1,182 @@
+package com.example.restandgraphql.limit;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 측정된 응답 지연 시간을 기반으로 동시 처리 한도를 자동 조절하는 리미터입니다.
+ * 장기 평균 지연 시간과 최근 지연 시간의 비율(gradient)로 한도를 줄이거나 늘리며,
+ * 한도를 초과한 요청은 대기시키지 않고 즉시 거절합니다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final String name;                 // 리미터 이름 (메트릭 태그로 사용)
+    private final int minLimit;                // 한도의 하한
+    private final int maxLimit;                // 한도의 상한
+    private final double smoothing;            // 새 한도를 반영하는 비율 (0~1)
+    private final double rttTolerance;         // 지연 시간 증가 허용 배수
+    private final double longRttDecay;         // 장기 평균 지연 시간의 감쇠 비율
+
+    private final AtomicInteger inflight = new AtomicInteger(); // 현재 처리 중인 요청 수
+    private final AtomicLong rejected = new AtomicLong();       // 누적 거절 횟수
+
+    private volatile double limit;             // 현재 동시 처리 한도
+    private volatile double longRttNanos;      // 장기 평균 지연 시간 (나노초, 갱신은 synchronized, 조회는 락 없이)
+
+    /**
+     * 리미터를 생성합니다.
+     *
+     * @param name 리미터 이름
+     * @param initialLimit 초기 한도
+     * @param minLimit 한도의 하한
+     * @param maxLimit 한도의 상한
+     * @param smoothing 새 한도를 반영하는 비율
+     * @param rttTolerance 지연 시간 증가 허용 배수 (예: 2.0이면 평균의 2배까지는 한도를 줄이지 않음)
+     * @param longRttWindow 장기 평균 지연 시간을 계산할 표본 수
+     */
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                                      double smoothing, double rttTolerance, int longRttWindow) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("동시 처리 한도 설정이 올바르지 않습니다: " + name);
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.rttTolerance = rttTolerance;
+        this.longRttDecay = 2.0 / (longRttWindow + 1);
+        this.limit = initialLimit;
+    }
+
+    /**
+     * 처리 권한을 요청합니다.
+     * 현재 처리 중인 요청 수가 한도에 도달했다면 빈 Optional을 반환합니다.
+     *
+     * @return 획득한 처리 권한, 한도 초과 시 빈 Optional
+     */
+    public Optional<Permit> tryAcquire() {
+        int current;
+        do {
+            current = inflight.get();
+            if (current >= (int) limit) {
+                rejected.incrementAndGet();
+                return Optional.empty();
+            }
+        } while (!inflight.compareAndSet(current, current + 1));
+        return Optional.of(new Permit(System.nanoTime(), current + 1));
+    }
+
+    /**
+     * 측정된 지연 시간을 반영하여 한도를 다시 계산합니다.
+     * 테스트에서 지연 시간 표본을 직접 넣을 수 있도록 패키지 범위로 둡니다.
+     *
+     * @param rttNanos 요청 처리에 걸린 시간 (나노초)
+     * @param inflightAtStart 요청 시작 시점의 처리 중인 요청 수
+     */
+    synchronized void onSample(long rttNanos, int inflightAtStart) {
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos; // 첫 표본으로 장기 평균 초기화
+            return;
+        }
+        longRttNanos = longRttNanos * (1 - longRttDecay) + rttNanos * longRttDecay;
+
+        // 한도의 절반도 사용하지 않는 상황에서는 지연 시간이 부하를 반영하지 않으므로 한도를 늘리지 않음
+        if (inflightAtStart < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRttNanos / rttNanos));
+        double queueSize = Math.sqrt(limit); // 지연이 안정적일 때 한도를 점진적으로 늘리기 위한 여유분
+        double newLimit = limit * gradient + queueSize;
+        newLimit = limit * (1 - smoothing) + newLimit * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+    /**
+     * 지연 시간을 측정할 수 없는 실패가 발생했을 때 한도를 줄입니다.
+     */
+    private synchronized void onDropped() {
+        limit = Math.max(minLimit, limit * 0.9);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    /**
+     * 다음 요청이 처리 가능해질 때까지의 예상 대기 시간(초)을 계산합니다.
+     * Retry-After 헤더 값으로 사용됩니다.
+     *
+     * @return 재시도까지의 대기 시간 (최소 1초)
+     */
+    public long getRetryAfterSeconds() {
+        long rtt = (long) longRttNanos;
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(rtt) + 1);
+    }
+
+    /**
+     * 리미터로부터 획득한 처리 권한입니다.
+     * 요청이 끝나면 반드시 {@link #release()} 또는 {@link #releaseDropped()}를 한 번 호출해야 합니다.
+     */
+    public final class Permit {
+
+        private final long startNanos;        // 처리 시작 시각
+        private final int inflightAtStart;    // 처리 시작 시점의 처리 중인 요청 수
+        private boolean released;             // 중복 반납 방지 플래그
+
+        private Permit(long startNanos, int inflightAtStart) {
+            this.startNanos = startNanos;
+            this.inflightAtStart = inflightAtStart;
+        }
+
+        /**
+         * 정상 처리된 요청의 권한을 반납하고 지연 시간을 한도 계산에 반영합니다.
+         */
+        public synchronized void release() {
+            if (released) {
+                return;
+            }
+            released = true;
+            inflight.decrementAndGet();
+            onSample(System.nanoTime() - startNanos, inflightAtStart);
+        }
+
+        /**
+         * 지연 시간을 한도 계산에 반영하지 않고 권한을 반납합니다.
+         * 구독처럼 처리 시간이 클라이언트에 따라 달라지는 요청에 사용합니다.
+         */
+        public synchronized void releaseUnmeasured() {
+            if (released) {
+                return;
+            }
+            released = true;
+            inflight.decrementAndGet();
+        }
+
+        /**
+         * 타임아웃 등으로 실패한 요청의 권한을 반납하고 한도를 줄입니다.
+         */
+        public synchronized void releaseDropped() {
+            if (released) {
+                return;
+            }
+            released = true;
+            inflight.decrementAndGet();
+            onDropped();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.restandgraphql.limit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 적응형 동시 처리 한도 설정을 담는 클래스입니다.
+ * 조회(read)와 변경(mutation) 요청에 대해 각각 별도의 한도를 설정합니다.
+ */
+@Getter // Lombok: 모든 필드의 Getter 메서드를 자동 생성합니다
+@Setter // Lombok: 모든 필드의 Setter 메서드를 자동 생성합니다
+@ConfigurationProperties(prefix = "app.concurrency-limit") // application.yaml의 설정값과 바인딩
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;               // 리미터 사용 여부
+    private Limit read = new Limit();             // 조회 요청 한도 설정
+    private Limit mutation = new Limit(10, 2, 50); // 변경 요청 한도 설정
+
+    /**
+     * 하나의 리미터에 대한 세부 설정입니다.
+     */
+    @Getter
+    @Setter
+    public static class Limit {
+        private int initialLimit = 20;   // 초기 한도
+        private int minLimit = 4;        // 한도의 하한
+        private int maxLimit = 200;      // 한도의 상한
+        private double smoothing = 0.2;  // 새 한도를 반영하는 비율
+        private double rttTolerance = 1.5; // 지연 시간 증가 허용 배수
+        private int longRttWindow = 600; // 장기 평균 지연 시간을 계산할 표본 수
+
+        public Limit() {
+        }
+
+        public Limit(int initialLimit, int minLimit, int maxLimit) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+        }
+
+        /**
+         * 설정값으로 리미터를 생성합니다.
+         *
+         * @param name 리미터 이름
+         * @return 생성된 리미터
+         */
+        AdaptiveConcurrencyLimiter toLimiter(String name) {
+            return new AdaptiveConcurrencyLimiter(name, initialLimit, minLimit, maxLimit,
+                    smoothing, rttTolerance, longRttWindow);
+        }
+    }
+}
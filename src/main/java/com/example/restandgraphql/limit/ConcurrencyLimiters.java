@@ -0,0 +1,65 @@
+package com.example.restandgraphql.limit;
+
+import com.example.restandgraphql.exception.ConcurrencyLimitExceededException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조회용과 변경용 리미터를 보관하고 메트릭으로 노출하는 컴포넌트입니다.
+ * REST 인터셉터와 GraphQL 계측기가 같은 리미터를 공유합니다.
+ */
+@Component // 스프링 컴포넌트로 등록
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class) // 동시 처리 한도 설정 바인딩
+public class ConcurrencyLimiters {
+
+    private final boolean enabled;                       // 리미터 사용 여부
+    private final AdaptiveConcurrencyLimiter readLimiter;     // 조회 요청 리미터
+    private final AdaptiveConcurrencyLimiter mutationLimiter; // 변경 요청 리미터
+
+    public ConcurrencyLimiters(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.readLimiter = properties.getRead().toLimiter("read");
+        this.mutationLimiter = properties.getMutation().toLimiter("mutation");
+        bindMetrics(readLimiter, meterRegistry);
+        bindMetrics(mutationLimiter, meterRegistry);
+    }
+
+    /**
+     * 요청 종류에 맞는 리미터에서 처리 권한을 획득합니다.
+     * 리미터가 비활성화된 경우 null을 반환합니다.
+     *
+     * @param mutation 변경 요청 여부
+     * @return 획득한 처리 권한 (비활성화 시 null)
+     * @throws ConcurrencyLimitExceededException 동시 처리 한도를 초과한 경우
+     */
+    public AdaptiveConcurrencyLimiter.Permit acquire(boolean mutation) {
+        if (!enabled) {
+            return null;
+        }
+        AdaptiveConcurrencyLimiter limiter = mutation ? mutationLimiter : readLimiter;
+        return limiter.tryAcquire()
+                .orElseThrow(() -> new ConcurrencyLimitExceededException(
+                        limiter.getName(), limiter.getRetryAfterSeconds()));
+    }
+
+    /**
+     * 리미터의 한도, 처리 중인 요청 수, 거절 횟수를 메트릭으로 등록합니다.
+     */
+    private static void bindMetrics(AdaptiveConcurrencyLimiter limiter, MeterRegistry registry) {
+        Gauge.builder("restaurant.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("현재 동시 처리 한도")
+                .tag("type", limiter.getName())
+                .register(registry);
+        Gauge.builder("restaurant.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInflight)
+                .description("현재 처리 중인 요청 수")
+                .tag("type", limiter.getName())
+                .register(registry);
+        FunctionCounter.builder("restaurant.concurrency.rejected", limiter, AdaptiveConcurrencyLimiter::getRejected)
+                .description("동시 처리 한도 초과로 거절된 요청 수")
+                .tag("type", limiter.getName())
+                .register(registry);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.restandgraphql.limit;
+
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.language.OperationDefinition;
+import graphql.schema.DataFetcher;
+import lombok.RequiredArgsConstructor;
+import org.reactivestreams.Publisher;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * GraphQL 루트 필드 실행에 적응형 동시 처리 한도를 적용하는 계측기(Instrumentation)입니다.
+ * Query와 Subscription 필드는 조회 리미터, Mutation 필드는 변경 리미터를 사용하며,
+ * 한도 초과 시 발생한 예외는 GraphQLExceptionHandler에서 GraphQL 에러로 변환됩니다.
+ */
+@Component // 스프링 컴포넌트로 등록 (GraphQL 자동 설정에서 계측기로 사용됨)
+@RequiredArgsConstructor // 생성자 주입을 위한 롬복 어노테이션
+public class GraphQLConcurrencyLimitInstrumentation extends SimplePerformantInstrumentation {
+
+    private final ConcurrencyLimiters concurrencyLimiters; // 조회/변경 리미터
+
+    @Override
+    public DataFetcher<?> instrumentDataFetcher(DataFetcher<?> dataFetcher,
+                                                InstrumentationFieldFetchParameters parameters,
+                                                InstrumentationState state) {
+        // 서비스 호출이 일어나는 루트 필드에만 적용하고, 하위 필드는 그대로 실행
+        if (parameters.isTrivialDataFetcher() || parameters.getExecutionStepInfo().getPath().getLevel() != 1) {
+            return dataFetcher;
+        }
+        boolean mutation = parameters.getEnvironment().getOperationDefinition().getOperation()
+                == OperationDefinition.Operation.MUTATION;
+
+        return environment -> {
+            AdaptiveConcurrencyLimiter.Permit permit = concurrencyLimiters.acquire(mutation);
+            if (permit == null) {
+                return dataFetcher.get(environment);
+            }
+            Object result;
+            try {
+                result = dataFetcher.get(environment);
+            } catch (Exception ex) {
+                release(permit, ex);
+                throw ex;
+            }
+            // 비동기 결과는 완료 시점에 권한을 반납
+            if (result instanceof CompletionStage<?> stage) {
+                stage.whenComplete((value, error) -> release(permit, error));
+                return result;
+            }
+            // 구독(Subscription) 스트림은 종료 또는 취소될 때까지 한도에 포함하고,
+            // 스트림 길이는 클라이언트에 따라 달라지므로 지연 시간 표본으로 쓰지 않음
+            if (result instanceof Mono<?> mono) {
+                return mono.doFinally(signal -> permit.releaseUnmeasured());
+            }
+            if (result instanceof Publisher<?> publisher) {
+                return Flux.from(publisher).doFinally(signal -> permit.releaseUnmeasured());
+            }
+            permit.release();
+            return result;
+        };
+    }
+
+    /**
+     * 처리 권한을 반납합니다.
+     * DB 타임아웃 등 일시적인 장애로 실패한 경우 빨리 실패한 요청이 평균 지연 시간을 낮추지 않도록
+     * 지연 시간 대신 한도 감소로 반영합니다.
+     *
+     * @param permit 반납할 처리 권한
+     * @param error 실행 중 발생한 예외 (없으면 null)
+     */
+    private static void release(AdaptiveConcurrencyLimiter.Permit permit, Throwable error) {
+        Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+        if (cause instanceof TransientDataAccessException) {
+            permit.releaseDropped();
+        } else {
+            permit.release();
+        }
+    }
+}
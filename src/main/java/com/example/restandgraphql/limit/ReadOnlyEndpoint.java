@@ -0,0 +1,17 @@
+package com.example.restandgraphql.limit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * GET이 아닌 HTTP 메서드로 매핑되었지만 데이터를 변경하지 않는 REST 핸들러 메서드를 표시합니다.
+ * 요청 본문으로 조건을 받는 조회(예: POST /v1/restaurants/lookup)가 변경 리미터 대신 조회 리미터를 사용하도록 합니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReadOnlyEndpoint {
+}
@@ -0,0 +1,77 @@
+package com.example.restandgraphql.limit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * REST API 요청에 적응형 동시 처리 한도를 적용하는 인터셉터입니다.
+ * GET 요청과 {@link ReadOnlyEndpoint}가 붙은 핸들러는 조회 리미터, 그 외 요청은 변경 리미터를 사용하며,
+ * 한도 초과 시 발생한 예외는 GlobalExceptionHandler에서 503 응답으로 변환됩니다.
+ */
+@Component // 스프링 컴포넌트로 등록
+@RequiredArgsConstructor // 생성자 주입을 위한 롬복 어노테이션
+public class RestConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = RestConcurrencyLimitInterceptor.class.getName() + ".PERMIT";
+
+    private final ConcurrencyLimiters concurrencyLimiters; // 조회/변경 리미터
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        AdaptiveConcurrencyLimiter.Permit permit = concurrencyLimiters.acquire(!isReadOnly(request, handler));
+        if (permit != null) {
+            request.setAttribute(PERMIT_ATTRIBUTE, permit);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof AdaptiveConcurrencyLimiter.Permit permit) {
+            // 장애로 빨리 실패한 요청이 평균 지연 시간을 낮추지 않도록 지연 시간 대신 한도 감소로 반영
+            if (isDropped(request, response, ex)) {
+                permit.releaseDropped();
+            } else {
+                permit.release();
+            }
+        }
+    }
+
+    /**
+     * 요청이 장애로 실패했는지 판단합니다.
+     * GlobalExceptionHandler가 처리한 예외는 afterCompletion의 ex로 전달되지 않으므로
+     * DispatcherServlet이 요청 속성에 남긴 예외와 응답 상태 코드(5xx)도 함께 확인합니다.
+     *
+     * @param request HTTP 요청
+     * @param response HTTP 응답
+     * @param ex 처리되지 않은 예외 (없으면 null)
+     * @return 장애로 인한 실패 여부
+     */
+    private static boolean isDropped(HttpServletRequest request, HttpServletResponse response, Exception ex) {
+        Object resolved = ex != null ? ex : request.getAttribute(DispatcherServlet.EXCEPTION_ATTRIBUTE);
+        return resolved instanceof TransientDataAccessException || response.getStatus() >= 500;
+    }
+
+    /**
+     * 요청이 데이터를 변경하지 않는 조회 요청인지 판단합니다.
+     * GET/HEAD 요청과 {@link ReadOnlyEndpoint}가 붙은 핸들러 메서드를 조회 요청으로 봅니다.
+     *
+     * @param request HTTP 요청
+     * @param handler 요청을 처리할 핸들러
+     * @return 조회 요청 여부
+     */
+    private static boolean isReadOnly(HttpServletRequest request, Object handler) {
+        if (HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod())) {
+            return true;
+        }
+        return handler instanceof HandlerMethod handlerMethod
+                && handlerMethod.hasMethodAnnotation(ReadOnlyEndpoint.class);
+    }
+}
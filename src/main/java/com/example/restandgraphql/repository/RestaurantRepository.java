@@ -3,6 +3,7 @@ package com.example.restandgraphql.repository;
 import com.example.restandgraphql.entity.Restaurant;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -21,4 +22,12 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
      * @return 검색된 레스토랑들의 페이지 객체
      */
     Page<Restaurant> findByNameContaining(String name, Pageable pageable);
+
+    /**
+     * 전체 레스토랑을 개수 조회(count) 쿼리 없이 페이징하여 조회합니다.
+     * 
+     * @param pageable 페이징 정보 (페이지 번호, 크기, 정렬 등)
+     * @return 현재 페이지의 레스토랑 목록과 다음 페이지 존재 여부
+     */
+    Slice<Restaurant> findSliceBy(Pageable pageable);
 }
@@ -0,0 +1,113 @@
+package com.example.restandgraphql.service;
+
+import com.example.restandgraphql.dto.FlightRecordingResponse;
+import com.example.restandgraphql.exception.FlightRecordingStateException;
+import com.example.restandgraphql.jfr.GraphQLFieldFetchEvent;
+import com.example.restandgraphql.jfr.JsonSerializationEvent;
+import com.example.restandgraphql.jfr.RepositoryQueryEvent;
+import com.example.restandgraphql.jfr.RestHandlerEvent;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+
+/**
+ * 운영 중 JFR(JDK Flight Recorder) 기록을 시작하고 종료하는 서비스 클래스입니다.
+ * 한 번에 하나의 기록만 허용하며, 기록 시간과 크기에 상한을 둡니다.
+ * 환경 변수, 시스템 속성, 명령행 인자처럼 비밀 값이 포함될 수 있는 JDK 이벤트는 기록하지 않습니다.
+ */
+@Service // 스프링의 서비스 계층 컴포넌트임을 나타냅니다
+public class FlightRecordingService {
+
+    private static final Duration MAX_DURATION = Duration.ofMinutes(10); // 최대 기록 시간
+    private static final long MAX_SIZE_BYTES = 100L * 1024 * 1024;      // 최대 기록 크기 (100MB)
+
+    // 비밀 값이 포함될 수 있어 기록하지 않는 JDK 이벤트
+    private static final String[] SENSITIVE_EVENTS = {
+            "jdk.InitialEnvironmentVariable", // 환경 변수
+            "jdk.InitialSystemProperty",      // 시스템 속성
+            "jdk.JVMInformation",             // JVM 실행 인자 (-D 옵션 포함)
+            "jdk.SystemProcess"               // 호스트의 다른 프로세스 명령행
+    };
+
+    private Recording recording; // 진행 중인 기록 (없으면 null)
+
+    /**
+     * JFR 기록을 시작합니다. 지정한 시간이 지나면 기록은 자동으로 멈추며, 결과는 {@link #stop()}으로 받습니다.
+     * 자동으로 멈춘 뒤 내려받지 않은 기록이 있다면 폐기하고 새 기록을 시작합니다.
+     * @param duration 기록 시간 (최대 10분)
+     * @return 시작된 기록 정보
+     * @throws FlightRecordingStateException 이미 진행 중인 기록이 있는 경우
+     */
+    public synchronized FlightRecordingResponse start(Duration duration) {
+        if (recording != null) {
+            if (recording.getState() == RecordingState.RUNNING || recording.getState() == RecordingState.DELAYED) {
+                throw new FlightRecordingStateException("이미 진행 중인 JFR 기록이 있습니다.");
+            }
+            recording.close(); // 기록 시간이 지나 멈춘 기록
+            recording = null;
+        }
+        Duration boundedDuration = duration.compareTo(MAX_DURATION) > 0 ? MAX_DURATION : duration;
+
+        Recording newRecording;
+        try {
+            newRecording = new Recording(Configuration.getConfiguration("profile")); // JDK 기본 프로파일링 설정
+        } catch (IOException | ParseException ex) {
+            throw new IllegalStateException("JFR 설정을 불러올 수 없습니다.", ex);
+        }
+        newRecording.setName("restandgraphql-" + System.currentTimeMillis());
+        newRecording.setDuration(boundedDuration);
+        newRecording.setMaxSize(MAX_SIZE_BYTES);
+        newRecording.setToDisk(true);
+        for (String event : SENSITIVE_EVENTS) {
+            newRecording.disable(event);
+        }
+        // 애플리케이션 이벤트는 모든 구간을 기록
+        newRecording.enable(RestHandlerEvent.class).withThreshold(Duration.ZERO);
+        newRecording.enable(GraphQLFieldFetchEvent.class).withThreshold(Duration.ZERO);
+        newRecording.enable(RepositoryQueryEvent.class).withThreshold(Duration.ZERO);
+        newRecording.enable(JsonSerializationEvent.class).withThreshold(Duration.ZERO);
+        newRecording.start();
+        recording = newRecording;
+
+        return FlightRecordingResponse.builder()
+                .name(newRecording.getName())
+                .startTime(newRecording.getStartTime())
+                .duration(boundedDuration)
+                .maxSize(MAX_SIZE_BYTES)
+                .build();
+    }
+
+    /**
+     * 진행 중인 JFR 기록을 멈추고 기록 파일을 반환합니다.
+     * 반환된 파일은 호출한 쪽에서 전송한 뒤 삭제해야 합니다.
+     * @return 기록된 .jfr 파일 경로
+     * @throws FlightRecordingStateException 진행 중이거나 내려받지 않은 기록이 없는 경우
+     */
+    public synchronized Path stop() {
+        if (recording == null) {
+            throw new FlightRecordingStateException("진행 중인 JFR 기록이 없습니다.");
+        }
+        Recording finished = recording;
+        recording = null;
+        try {
+            if (finished.getState() == RecordingState.RUNNING) {
+                finished.stop();
+            }
+            Path file = Files.createTempFile(finished.getName() + "-", ".jfr");
+            finished.dump(file);
+            return file;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            finished.close();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.restandgraphql.service;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 페이지 번호 대신 임의의 시작 위치(offset)로 조회 범위를 지정하는 페이징 정보입니다.
+ * 요청한 페이지를 작은 묶음으로 나누어 조회할 때 사용하며,
+ * 묶음의 시작 위치가 묶음 크기의 배수가 아니어도 됩니다.
+ */
+final class OffsetPageRequest implements Pageable {
+
+    private final long offset; // 조회를 시작할 위치 (0부터 시작)
+    private final int size;    // 조회할 최대 항목 수
+    private final Sort sort;   // 정렬 기준
+
+    OffsetPageRequest(long offset, int size, Sort sort) {
+        if (offset < 0 || size < 1) {
+            throw new IllegalArgumentException("조회 범위가 올바르지 않습니다.");
+        }
+        this.offset = offset;
+        this.size = size;
+        this.sort = sort;
+    }
+
+    @Override
+    public int getPageNumber() {
+        return (int) (offset / size);
+    }
+
+    @Override
+    public int getPageSize() {
+        return size;
+    }
+
+    @Override
+    public long getOffset() {
+        return offset;
+    }
+
+    @Override
+    public Sort getSort() {
+        return sort;
+    }
+
+    @Override
+    public Pageable next() {
+        return new OffsetPageRequest(offset + size, size, sort);
+    }
+
+    @Override
+    public Pageable previousOrFirst() {
+        return new OffsetPageRequest(Math.max(0, offset - size), size, sort);
+    }
+
+    @Override
+    public Pageable first() {
+        return new OffsetPageRequest(0, size, sort);
+    }
+
+    @Override
+    public Pageable withPage(int pageNumber) {
+        return new OffsetPageRequest((long) pageNumber * size, size, sort);
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return offset > 0;
+    }
+}
@@ -1,12 +1,27 @@
 package com.example.restandgraphql.service;
 
+import com.example.restandgraphql.dto.RestaurantLookupResponse;
+import com.example.restandgraphql.dto.RestaurantSuggestion;
 import com.example.restandgraphql.entity.Restaurant;
 import com.example.restandgraphql.repository.RestaurantRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.LongStream;
 
 /**
  * 레스토랑 관련 비즈니스 로직을 처리하는 서비스 클래스입니다.
@@ -15,7 +30,13 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor // final 필드에 대한 생성자를 자동으로 생성합니다
 public class RestaurantService {
 
+    private static final int MAX_LOOKUP_IDS = 1000;    // 한 번에 조회할 수 있는 최대 ID 수
+    private static final int LOOKUP_CHUNK_SIZE = 500;  // IN 쿼리 하나에 넣을 ID 수
+    private static final int STREAM_BATCH_SIZE = 100;  // 스트리밍 조회에서 쿼리 하나로 읽을 레스토랑 수
+    private static final Duration STREAM_IDLE_TIMEOUT = Duration.ofSeconds(30); // 스트리밍 중 다음 결과 없이 기다릴 수 있는 최대 시간
+
     private final RestaurantRepository restaurantRepository; // 레스토랑 데이터 접근을 위한 리포지토리
+    private final RestaurantSuggestIndex restaurantSuggestIndex; // 자동완성을 위한 메모리 인덱스
 
     /**
      * 모든 레스토랑 정보를 페이징하여 조회합니다.
@@ -26,6 +47,44 @@ public class RestaurantService {
         return restaurantRepository.findAll(pageable);
     }
 
+    /**
+     * 전체 레스토랑을 개수 조회 없이 페이징하여 조회합니다.
+     * 전체 개수가 필요한 경우 {@link #countRestaurants()}를 별도로 호출합니다.
+     * @param pageable 페이징 정보
+     * @return 현재 페이지의 레스토랑 목록
+     */
+    public Slice<Restaurant> getRestaurantSlice(Pageable pageable) {
+        return restaurantRepository.findSliceBy(pageable);
+    }
+
+    /**
+     * 전체 레스토랑 수를 조회합니다.
+     * @return 전체 레스토랑 수
+     */
+    public long countRestaurants() {
+        return restaurantRepository.count();
+    }
+
+    /**
+     * 레스토랑을 작은 묶음으로 나누어 조회하면서 하나씩 발행합니다.
+     * 페이지 전체가 조회될 때까지 기다리지 않으므로 첫 결과를 빠르게 받을 수 있습니다.
+     * 구독자가 이전 묶음을 소비해야 다음 묶음을 조회하므로 결과가 메모리에 쌓이지 않고,
+     * 묶음마다 짧은 쿼리로 끝나므로 느리거나 멈춘 구독자가 DB 커넥션이나 스레드를 붙잡지 않으며,
+     * 30초 동안 다음 결과를 받아 가지 않는 구독은 타임아웃으로 종료합니다.
+     * @param pageable 페이징 정보
+     * @return 레스토랑 스트림
+     */
+    public Flux<Restaurant> streamRestaurants(Pageable pageable) {
+        long end = pageable.getOffset() + pageable.getPageSize();
+        return Flux.fromStream(() -> LongStream.iterate(pageable.getOffset(), offset -> offset < end, offset -> offset + STREAM_BATCH_SIZE).boxed())
+                .concatMap(offset -> Mono.fromCallable(() -> restaurantRepository.findSliceBy(
+                                new OffsetPageRequest(offset, (int) Math.min(STREAM_BATCH_SIZE, end - offset), pageable.getSort())))
+                        .subscribeOn(Schedulers.boundedElastic()), 0) // 블로킹 조회는 별도 스레드에서 실행하고, 다음 묶음은 요청이 있을 때만 조회
+                .takeUntil(slice -> !slice.hasNext()) // 남은 데이터가 없으면 더 조회하지 않음
+                .concatMapIterable(Slice::getContent, 1) // 한 묶음씩만 받아 발행
+                .timeout(STREAM_IDLE_TIMEOUT); // 멈춘 구독자가 조회 한도를 계속 차지하지 않도록 종료
+    }
+
     /**
      * 이름으로 레스토랑을 검색하고 페이징하여 반환합니다.
      * @param name 검색할 레스토랑 이름
@@ -36,15 +95,67 @@ public class RestaurantService {
         return restaurantRepository.findByNameContaining(name, pageable);
     }
 
+    /**
+     * 이름의 접두사로 레스토랑 자동완성 결과를 인기순으로 조회합니다.
+     * 데이터베이스를 조회하지 않고 메모리 인덱스에서 응답합니다.
+     * @param prefix 검색할 접두사 (입력 중인 한글, 초성 포함)
+     * @param limit 최대 결과 수
+     * @return 자동완성 결과 목록
+     */
+    public List<RestaurantSuggestion> suggestRestaurants(String prefix, int limit) {
+        return restaurantSuggestIndex.suggest(prefix, limit);
+    }
+
     /**
      * ID로 특정 레스토랑을 조회합니다.
+     * 조회 기록은 자동완성 인기도에 반영됩니다.
      * @param id 레스토랑 ID
      * @return 조회된 레스토랑 정보
      * @throws EntityNotFoundException 레스토랑을 찾을 수 없는 경우
      */
     public Restaurant getRestaurantById(Long id) {
-        return restaurantRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("레스토랑을 찾을 수 없습니다."));
+        Restaurant restaurant = findRestaurant(id);
+        restaurantSuggestIndex.recordView(id);
+        return restaurant;
+    }
+
+    /**
+     * 여러 ID의 레스토랑을 한 번에 조회합니다.
+     * 중복 ID는 제거하고, ID 목록을 나누어 IN 쿼리로 조회한 뒤 요청한 순서대로 정렬합니다.
+     * 존재하지 않는 ID는 실패 대신 missingIds로 반환합니다.
+     * @param ids 조회할 레스토랑 ID 목록
+     * @return 조회된 레스토랑 목록과 찾지 못한 ID 목록
+     * @throws IllegalArgumentException 빈 ID가 포함되었거나 조회할 ID가 최대 개수를 초과한 경우
+     */
+    public RestaurantLookupResponse getRestaurantsByIds(List<Long> ids) {
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("조회할 ID 목록에 빈 값이 포함될 수 없습니다."); // 예: ids=1,,2
+        }
+        List<Long> uniqueIds = new ArrayList<>(new LinkedHashSet<>(ids)); // 요청 순서를 유지하며 중복 제거
+        if (uniqueIds.size() > MAX_LOOKUP_IDS) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 ID는 최대 " + MAX_LOOKUP_IDS + "개입니다.");
+        }
+
+        Map<Long, Restaurant> found = new HashMap<>();
+        for (int from = 0; from < uniqueIds.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<Long> chunk = uniqueIds.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, uniqueIds.size()));
+            restaurantRepository.findAllById(chunk).forEach(restaurant -> found.put(restaurant.getId(), restaurant));
+        }
+
+        List<Restaurant> content = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : uniqueIds) {
+            Restaurant restaurant = found.get(id);
+            if (restaurant != null) {
+                content.add(restaurant);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return RestaurantLookupResponse.builder()
+                .content(content)
+                .missingIds(missingIds)
+                .build();
     }
 
     /**
@@ -53,7 +164,9 @@ public class RestaurantService {
      * @return 생성된 레스토랑 정보
      */
     public Restaurant createRestaurant(Restaurant restaurant) {
-        return restaurantRepository.save(restaurant);
+        Restaurant saved = restaurantRepository.save(restaurant);
+        restaurantSuggestIndex.put(saved);
+        return saved;
     }
 
     /**
@@ -63,10 +176,12 @@ public class RestaurantService {
      * @return 수정된 레스토랑 정보
      */
     public Restaurant updateRestaurant(Long id, Restaurant restaurantDetails) {
-        Restaurant restaurant = getRestaurantById(id);
+        Restaurant restaurant = findRestaurant(id);
         restaurant.setName(restaurantDetails.getName());
         restaurant.setAddress(restaurantDetails.getAddress());
-        return restaurantRepository.save(restaurant);
+        Restaurant saved = restaurantRepository.save(restaurant);
+        restaurantSuggestIndex.put(saved);
+        return saved;
     }
 
     /**
@@ -75,5 +190,17 @@ public class RestaurantService {
      */
     public void deleteRestaurant(Long id) {
         restaurantRepository.deleteById(id);
+        restaurantSuggestIndex.remove(id);
+    }
+
+    /**
+     * ID로 레스토랑을 조회합니다. 인기도 집계 없이 내부 처리용으로 사용합니다.
+     * @param id 레스토랑 ID
+     * @return 조회된 레스토랑 정보
+     * @throws EntityNotFoundException 레스토랑을 찾을 수 없는 경우
+     */
+    private Restaurant findRestaurant(Long id) {
+        return restaurantRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("레스토랑을 찾을 수 없습니다."));
     }
 }
@@ -0,0 +1,395 @@
+package com.example.restandgraphql.service;
+
+import com.example.restandgraphql.dto.RestaurantSuggestion;
+import com.example.restandgraphql.entity.Restaurant;
+import com.example.restandgraphql.repository.RestaurantRepository;
+import com.example.restandgraphql.util.HangulUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 레스토랑 이름 자동완성을 위한 메모리 접두사 인덱스입니다.
+ * 이름을 자모 단위로 분해한 트라이(trie)에 저장하며, 각 노드에 인기순 상위 항목을 미리 계산해 두어
+ * 데이터베이스 조회 없이 접두사 길이에 비례하는 시간으로 응답합니다.
+ * 이름의 각 단어 시작 위치와 초성 문자열도 함께 색인하므로 "김밥", "김ㅂ", "ㄱㅂ" 모두 "맛있는 김밥"과 일치합니다.
+ */
+@Component // 스프링 컴포넌트로 등록
+@RequiredArgsConstructor // final 필드에 대한 생성자를 자동으로 생성합니다
+public class RestaurantSuggestIndex {
+
+    /** 한 번에 반환할 수 있는 최대 자동완성 결과 수 (각 노드에 보관하는 상위 항목 수) */
+    public static final int MAX_SUGGESTIONS = 20;
+
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+    private static final Comparator<Entry> RANKING = Comparator
+            .comparingLong(Entry::popularity).reversed()      // 인기도 높은 순
+            .thenComparingInt(entry -> entry.name().length())   // 짧은 이름 우선
+            .thenComparing(Entry::name)
+            .thenComparing(Entry::id);
+
+    private final RestaurantRepository restaurantRepository; // 초기 적재를 위한 리포지토리
+
+    private final Node root = new Node();                               // 트라이 루트 노드
+    private final Map<Long, Entry> entries = new HashMap<>();           // ID별 색인된 항목
+    private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>(); // 아직 반영되지 않은 조회수
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();   // 조회는 동시에, 변경은 단독으로 수행
+    private final Set<Long> removedDuringLoad = new HashSet<>();        // 초기 적재 중 삭제된 ID (lock으로 보호)
+    private boolean loading;                                            // 초기 적재 진행 여부 (lock으로 보호)
+
+    /**
+     * 애플리케이션 시작 시 데이터베이스의 레스토랑을 인덱스에 적재합니다.
+     * 적재 전에 이미 색인된 레스토랑은 더 최신 정보이므로 덮어쓰지 않고,
+     * 데이터베이스를 읽는 동안 삭제된 레스토랑은 다시 색인하지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        lock.writeLock().lock();
+        try {
+            loading = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        // 전체 조회 동안 자동완성 조회가 막히지 않도록 잠금 밖에서 읽음
+        List<Restaurant> restaurants = restaurantRepository.findAll();
+
+        lock.writeLock().lock();
+        try {
+            for (Restaurant restaurant : restaurants) {
+                if (!entries.containsKey(restaurant.getId()) && !removedDuringLoad.contains(restaurant.getId())) {
+                    index(new Entry(restaurant.getId(), restaurant.getName(), 0));
+                }
+            }
+        } finally {
+            loading = false;
+            removedDuringLoad.clear();
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 접두사로 시작하는 레스토랑을 인기순으로 조회합니다.
+     *
+     * @param prefix 검색할 접두사 (입력 중인 한글, 초성 포함)
+     * @param limit 최대 결과 수 (최대 {@value #MAX_SUGGESTIONS})
+     * @return 자동완성 결과 목록
+     */
+    public List<RestaurantSuggestion> suggest(String prefix, int limit) {
+        String key = HangulUtils.toJamo(prefix);
+        int size = Math.min(limit, MAX_SUGGESTIONS);
+        if (key.isEmpty() || size <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            Entry[] top = node.top;
+            List<RestaurantSuggestion> suggestions = new ArrayList<>(Math.min(size, top.length));
+            for (int i = 0; i < top.length && i < size; i++) {
+                suggestions.add(new RestaurantSuggestion(top[i].id(), top[i].name()));
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 레스토랑을 인덱스에 추가하거나 변경된 이름으로 갱신합니다.
+     *
+     * @param restaurant 저장된 레스토랑
+     */
+    public void put(Restaurant restaurant) {
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.get(restaurant.getId());
+            long popularity = 0;
+            if (previous != null) {
+                if (previous.name().equals(restaurant.getName())) {
+                    return; // 이름이 바뀌지 않았다면 다시 색인할 필요 없음
+                }
+                unindex(previous);
+                popularity = previous.popularity();
+            }
+            index(new Entry(restaurant.getId(), restaurant.getName(), popularity));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 레스토랑을 인덱스에서 제거합니다.
+     *
+     * @param id 삭제된 레스토랑 ID
+     */
+    public void remove(Long id) {
+        pendingViews.remove(id);
+        lock.writeLock().lock();
+        try {
+            if (loading) {
+                removedDuringLoad.add(id); // 적재 중인 스냅샷에 남아 있을 수 있으므로 기록
+            }
+            Entry previous = entries.get(id);
+            if (previous != null) {
+                unindex(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 레스토랑 상세 조회를 인기도 집계에 기록합니다.
+     * 조회 경로에서 잠금을 잡지 않도록 집계만 하고, 순위 반영은 주기적으로 일괄 처리합니다.
+     *
+     * @param id 조회된 레스토랑 ID
+     */
+    public void recordView(Long id) {
+        pendingViews.computeIfAbsent(id, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * 집계된 조회수를 인기도에 반영하여 순위를 갱신합니다.
+     * 자동완성 조회가 일괄 반영 전체를 기다리지 않도록 항목마다 잠금을 잡았다가 놓습니다.
+     */
+    @Scheduled(fixedDelayString = "${app.suggest.popularity-refresh-interval:5000}")
+    public void applyPendingViews() {
+        Map<Long, Long> views = new HashMap<>();
+        pendingViews.forEach((id, counter) -> {
+            long count = counter.sumThenReset();
+            if (count > 0) {
+                views.put(id, count);
+            }
+        });
+
+        views.forEach((id, count) -> {
+            lock.writeLock().lock();
+            try {
+                Entry previous = entries.get(id);
+                if (previous != null) {
+                    promote(new Entry(id, previous.name(), previous.popularity() + count));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * 레스토랑 이름에서 색인할 키 목록을 만듭니다.
+     * 각 단어의 시작 위치부터의 자모 문자열과, 한글이 포함된 경우 초성 문자열을 사용합니다.
+     */
+    private static Set<String> keysOf(String name) {
+        Set<String> keys = new LinkedHashSet<>();
+        String[] words = name.trim().split("\\s+");
+        for (int i = 0; i < words.length; i++) {
+            String suffix = String.join("", Arrays.asList(words).subList(i, words.length));
+            String jamo = HangulUtils.toJamo(suffix);
+            if (!jamo.isEmpty()) {
+                keys.add(jamo);
+            }
+            if (HangulUtils.containsSyllable(suffix)) {
+                keys.add(HangulUtils.toChoseong(suffix));
+            }
+        }
+        return keys;
+    }
+
+    private void index(Entry entry) {
+        entries.put(entry.id(), entry);
+        for (String key : keysOf(entry.name())) {
+            Node node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.getOrCreateChild(key.charAt(i));
+                node.offer(entry);
+            }
+            node.terminals = append(node.terminals, entry);
+        }
+    }
+
+    private void unindex(Entry entry) {
+        entries.remove(entry.id());
+        for (String key : keysOf(entry.name())) {
+            Node[] path = new Node[key.length()];
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+                path[i] = node;
+            }
+            if (node == null) {
+                continue;
+            }
+            node.terminals = without(node.terminals, entry.id());
+
+            // 잎 노드부터 거슬러 올라가며 빈 노드는 제거하고 나머지는 상위 항목을 다시 계산
+            for (int i = path.length - 1; i >= 0; i--) {
+                Node parent = i == 0 ? root : path[i - 1];
+                if (path[i].isEmpty()) {
+                    parent.removeChild(key.charAt(i));
+                } else {
+                    path[i].recomputeTop();
+                }
+            }
+        }
+    }
+
+    /**
+     * 인기도가 오른 항목의 순위를 갱신합니다.
+     * 인기도는 오르기만 하므로 다른 항목이 상위 항목에서 밀려날 수는 있어도 새로 들어올 수는 없습니다.
+     * 따라서 키 경로의 각 노드에서 이전 항목을 빼고 새 항목을 삽입하는 것만으로 충분하며,
+     * 하위 노드 전체로부터 상위 항목을 다시 계산하지 않습니다.
+     */
+    private void promote(Entry entry) {
+        entries.put(entry.id(), entry);
+        for (String key : keysOf(entry.name())) {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+                if (node != null) {
+                    node.top = without(node.top, entry.id());
+                    node.offer(entry);
+                }
+            }
+            if (node != null) {
+                node.terminals = append(without(node.terminals, entry.id()), entry);
+            }
+        }
+    }
+
+    private static Entry[] append(Entry[] entries, Entry entry) {
+        for (Entry existing : entries) {
+            if (existing.id().equals(entry.id())) {
+                return entries;
+            }
+        }
+        Entry[] result = Arrays.copyOf(entries, entries.length + 1);
+        result[entries.length] = entry;
+        return result;
+    }
+
+    private static Entry[] without(Entry[] entries, Long id) {
+        return Arrays.stream(entries).filter(entry -> !entry.id().equals(id)).toArray(Entry[]::new);
+    }
+
+    /**
+     * 인덱스에 저장되는 레스토랑 항목입니다.
+     */
+    private record Entry(Long id, String name, long popularity) {
+    }
+
+    /**
+     * 트라이 노드입니다.
+     * 자식 노드는 정렬된 배열로 보관하여 메모리를 줄이고 이진 탐색으로 찾습니다.
+     */
+    private static final class Node {
+        private char[] labels = new char[0];      // 자식 노드의 문자 (정렬됨)
+        private Node[] children = new Node[0];    // 자식 노드
+        private Entry[] terminals = NO_ENTRIES;   // 이 노드에서 끝나는 키의 항목
+        private Entry[] top = NO_ENTRIES;         // 이 노드 하위 전체에서 인기순 상위 항목
+
+        private Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private Node getOrCreateChild(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            Node node = new Node();
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newLabels[insertAt] = label;
+            newChildren[insertAt] = node;
+            System.arraycopy(labels, insertAt, newLabels, insertAt + 1, labels.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            labels = newLabels;
+            children = newChildren;
+            return node;
+        }
+
+        private void removeChild(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            if (index < 0) {
+                return;
+            }
+            char[] newLabels = new char[labels.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(labels, 0, newLabels, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(labels, index + 1, newLabels, index, labels.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            labels = newLabels;
+            children = newChildren;
+        }
+
+        private boolean isEmpty() {
+            return terminals.length == 0 && children.length == 0;
+        }
+
+        /**
+         * 새 항목이 상위 항목에 들어갈 수 있으면 순위에 맞게 삽입합니다.
+         */
+        private void offer(Entry entry) {
+            for (Entry existing : top) {
+                if (existing.id().equals(entry.id())) {
+                    return;
+                }
+            }
+            if (top.length == MAX_SUGGESTIONS && RANKING.compare(entry, top[top.length - 1]) >= 0) {
+                return;
+            }
+            int insertAt = Arrays.binarySearch(top, entry, RANKING);
+            insertAt = insertAt >= 0 ? insertAt : -insertAt - 1;
+            Entry[] newTop = new Entry[Math.min(top.length + 1, MAX_SUGGESTIONS)];
+            System.arraycopy(top, 0, newTop, 0, insertAt);
+            newTop[insertAt] = entry;
+            System.arraycopy(top, insertAt, newTop, insertAt + 1, newTop.length - insertAt - 1);
+            top = newTop;
+        }
+
+        /**
+         * 이 노드의 항목과 자식 노드의 상위 항목으로부터 상위 항목을 다시 계산합니다.
+         */
+        private void recomputeTop() {
+            List<Entry> candidates = new ArrayList<>(Arrays.asList(terminals));
+            for (Node child : children) {
+                candidates.addAll(Arrays.asList(child.top));
+            }
+            Set<Long> seen = new HashSet<>();
+            top = candidates.stream()
+                    .sorted(RANKING)
+                    .filter(entry -> seen.add(entry.id()))
+                    .limit(MAX_SUGGESTIONS)
+                    .toArray(Entry[]::new);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.restandgraphql.util;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * 한글 자모 분해 관련 유틸리티 클래스입니다.
+ * 입력 중인 한글(예: "김ㅂ")이나 초성(예: "ㄱㅂ")으로도 검색할 수 있도록 문자열을 자모 단위로 변환합니다.
+ */
+@UtilityClass // 유틸리티 클래스임을 나타내는 롬복 어노테이션
+public class HangulUtils {
+
+    private static final char SYLLABLE_BEGIN = '가'; // 한글 음절의 시작
+    private static final char SYLLABLE_END = '힣';   // 한글 음절의 끝
+    private static final int JUNGSEONG_COUNT = 21;       // 중성 개수
+    private static final int JONGSEONG_COUNT = 28;       // 종성 개수 (종성 없음 포함)
+
+    // 초성 (호환용 자모)
+    private static final String[] CHOSEONG = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 중성 (이중 모음은 입력 순서대로 분해)
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    // 종성 (겹받침은 입력 순서대로 분해)
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 단독으로 입력된 겹자모와 그 분해 결과
+    private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_JAMO_PARTS = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+
+    /**
+     * 문자열을 검색 키로 정규화합니다.
+     * 공백을 제거하고 소문자로 변환한 뒤 한글 음절을 자모 단위로 분해합니다.
+     *
+     * @param text 변환할 문자열 (예: "맛있는 김밥")
+     * @return 자모로 분해된 문자열 (예: "ㅁㅏㅅㅇㅣㅆㄴㅡㄴㄱㅣㅁㅂㅏㅂ")
+     */
+    public static String toJamo(String text) {
+        StringBuilder builder = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char ch = Character.toLowerCase(text.charAt(i));
+            if (Character.isWhitespace(ch)) {
+                continue; // 띄어쓰기 여부와 관계없이 검색되도록 공백 제거
+            }
+            if (isSyllable(ch)) {
+                int index = ch - SYLLABLE_BEGIN;
+                builder.append(CHOSEONG[index / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+                builder.append(JUNGSEONG[(index / JONGSEONG_COUNT) % JUNGSEONG_COUNT]);
+                builder.append(JONGSEONG[index % JONGSEONG_COUNT]);
+                continue;
+            }
+            int compound = COMPOUND_JAMO.indexOf(ch);
+            if (compound >= 0) {
+                builder.append(COMPOUND_JAMO_PARTS[compound]);
+                continue;
+            }
+            builder.append(ch);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 문자열의 한글 음절을 초성으로 변환합니다.
+     * 한글 음절이 아닌 문자는 소문자로 변환하여 그대로 유지합니다.
+     *
+     * @param text 변환할 문자열 (예: "맛있는 김밥")
+     * @return 초성 문자열 (예: "ㅁㅇㄴㄱㅂ")
+     */
+    public static String toChoseong(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char ch = Character.toLowerCase(text.charAt(i));
+            if (Character.isWhitespace(ch)) {
+                continue;
+            }
+            if (isSyllable(ch)) {
+                builder.append(CHOSEONG[(ch - SYLLABLE_BEGIN) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+            } else {
+                builder.append(ch);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 문자열에 한글 음절이 포함되어 있는지 확인합니다.
+     *
+     * @param text 확인할 문자열
+     * @return 한글 음절 포함 여부
+     */
+    public static boolean containsSyllable(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isSyllable(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSyllable(char ch) {
+        return ch >= SYLLABLE_BEGIN && ch <= SYLLABLE_END;
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.restandgraphql.config;
+
+import com.example.restandgraphql.converter.RestaurantProtobufHttpMessageConverter;
+import com.example.restandgraphql.entity.Restaurant;
+import com.example.restandgraphql.service.RestaurantService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * REST API 콘텐츠 협상 테스트 클래스입니다.
+ * Accept 헤더가 없거나 와일드카드인 요청은 JSON으로 응답하고,
+ * CBOR, Smile, Protobuf 형식은 응답과 요청 본문 모두에서 선택되는지 테스트합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class HttpMessageConverterConfigTest {
+
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+    private final ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+    private final RestaurantProtobufHttpMessageConverter protobufConverter = new RestaurantProtobufHttpMessageConverter();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private RestaurantService restaurantService;
+
+    @BeforeEach
+    void setUp() {
+        given(restaurantService.getRestaurantById(1L)).willReturn(new Restaurant(1L, "맛있는 김밥", "주소1", null));
+        given(restaurantService.createRestaurant(any())).willAnswer(invocation -> {
+            Restaurant restaurant = invocation.getArgument(0);
+            restaurant.setId(2L);
+            return restaurant;
+        });
+    }
+
+    @Test
+    @DisplayName("Accept 헤더가 없거나 와일드카드이면 JSON으로 응답한다")
+    void defaultToJson() throws Exception {
+        mockMvc.perform(get("/v1/restaurants/1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.name").value("맛있는 김밥"));
+
+        mockMvc.perform(get("/v1/restaurants/1").header(HttpHeaders.ACCEPT, "*/*"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.name").value("맛있는 김밥"));
+    }
+
+    @Test
+    @DisplayName("Accept 헤더에 따라 CBOR, Smile, Protobuf로 응답한다")
+    void negotiateBinaryResponses() throws Exception {
+        assertThat(cborMapper.readValue(getAs(CBOR), Restaurant.class).getName()).isEqualTo("맛있는 김밥");
+        assertThat(smileMapper.readValue(getAs(SMILE), Restaurant.class).getName()).isEqualTo("맛있는 김밥");
+        Restaurant protobuf = (Restaurant) protobufConverter.read(
+                Restaurant.class, new MockHttpInputMessage(getAs(RestaurantProtobufHttpMessageConverter.PROTOBUF)));
+        assertThat(protobuf.getName()).isEqualTo("맛있는 김밥");
+    }
+
+    @Test
+    @DisplayName("Content-Type에 따라 CBOR, Smile, Protobuf 요청 본문을 읽는다")
+    void readBinaryRequestBodies() throws Exception {
+        // given
+        Restaurant restaurant = new Restaurant(null, "김밥천국", "주소2", "02-1234-5678");
+        MockHttpOutputMessage protobuf = new MockHttpOutputMessage();
+        protobufConverter.write(restaurant, RestaurantProtobufHttpMessageConverter.PROTOBUF, protobuf);
+
+        // when & then
+        postAs(CBOR, cborMapper.writeValueAsBytes(restaurant));
+        postAs(SMILE, smileMapper.writeValueAsBytes(restaurant));
+        postAs(RestaurantProtobufHttpMessageConverter.PROTOBUF, protobuf.getBodyAsBytes());
+    }
+
+    private byte[] getAs(MediaType mediaType) throws Exception {
+        MvcResult result = mockMvc.perform(get("/v1/restaurants/1").accept(mediaType))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(mediaType))
+                .andReturn();
+        return result.getResponse().getContentAsByteArray();
+    }
+
+    private void postAs(MediaType mediaType, byte[] body) throws Exception {
+        mockMvc.perform(post("/v1/restaurants").contentType(mediaType).content(body).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(2))
+                .andExpect(jsonPath("$.name").value("김밥천국"))
+                .andExpect(jsonPath("$.phoneNumber").value("02-1234-5678"));
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.restandgraphql.controller;
+
+import com.example.restandgraphql.dto.RestaurantLookupResponse;
+import com.example.restandgraphql.entity.Restaurant;
+import com.example.restandgraphql.service.RestaurantService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.graphql.tester.AutoConfigureHttpGraphQlTester;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.graphql.server.WebGraphQlInterceptor;
+import org.springframework.graphql.test.tester.HttpGraphQlTester;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * GraphQL 배치 요청과 루트 필드 병렬 실행 테스트 클래스입니다.
+ * 배치 결과 순서, 작업별 에러, 인터셉터 적용, 작업과 루트 필드의 동시 실행을 테스트합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureHttpGraphQlTester
+class GraphQLBatchControllerTest {
+
+    private static final AtomicInteger INTERCEPTED = new AtomicInteger(); // 헤더가 전달된 채 인터셉터를 거친 작업 수
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private HttpGraphQlTester graphQlTester;
+
+    @MockitoBean
+    private RestaurantService restaurantService;
+
+    @BeforeEach
+    void setUp() {
+        INTERCEPTED.set(0);
+    }
+
+    @Test
+    @DisplayName("배치 작업 결과를 요청 순서대로 반환하고, 실패한 작업의 에러는 해당 결과에만 담는다")
+    void executeBatchInOrder() {
+        // given
+        given(restaurantService.getRestaurantSlice(any()))
+                .willReturn(new SliceImpl<>(List.of(new Restaurant(1L, "맛있는 김밥", "주소1", null))));
+        given(restaurantService.getRestaurantsByIds(anyList()))
+                .willReturn(RestaurantLookupResponse.builder().content(List.of()).missingIds(List.of(99L)).build());
+
+        // when & then
+        webTestClient.post().uri("/graphql/batch")
+                .header("X-Client", "batch-test")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(
+                        Map.of("query", "{ restaurantsByIds(ids: [\"99\"]) { missingIds } }"),
+                        Map.of("query", "{ unknownField }"),
+                        Map.of("query", "{ getRestaurants(page: 0, size: 10, sort: \"id,asc\") { content { name } } }")))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(3)
+                .jsonPath("$[0].data.restaurantsByIds.missingIds[0]").isEqualTo("99")
+                .jsonPath("$[0].errors").doesNotExist()
+                .jsonPath("$[1].errors[0].message").exists()
+                .jsonPath("$[2].data.getRestaurants.content[0].name").isEqualTo("맛있는 김밥");
+
+        assertThat(INTERCEPTED).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("빈 배치와 최대 작업 수를 넘는 배치는 400을 반환한다")
+    void rejectInvalidBatch() {
+        List<Map<String, String>> tooMany = new ArrayList<>(
+                Collections.nCopies(21, Map.of("query", "{ suggestRestaurants(prefix: \"김\") { id } }")));
+
+        webTestClient.post().uri("/graphql/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of())
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.status").isEqualTo(400);
+
+        webTestClient.post().uri("/graphql/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(tooMany)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.status").isEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("동기로 실행되는 Mutation 작업들도 배치 안에서 동시에 실행된다")
+    void executeBatchOperationsConcurrently() {
+        // given
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Queue<Boolean> overlapped = new ConcurrentLinkedQueue<>();
+        given(restaurantService.createRestaurant(any())).willAnswer(invocation -> {
+            bothStarted.countDown();
+            overlapped.add(bothStarted.await(5, TimeUnit.SECONDS)); // 다른 작업이 동시에 실행 중이어야 통과
+            Restaurant restaurant = invocation.getArgument(0);
+            restaurant.setId(1L);
+            return restaurant;
+        });
+
+        // when
+        webTestClient.post().uri("/graphql/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(
+                        Map.of("query", "mutation { createRestaurant(name: \"가게1\", address: \"주소1\") { id } }"),
+                        Map.of("query", "mutation { createRestaurant(name: \"가게2\", address: \"주소2\") { id } }")))
+                .exchange()
+                .expectStatus().isOk();
+
+        // then
+        assertThat(overlapped).containsExactly(true, true);
+    }
+
+    @Test
+    @DisplayName("한 요청의 여러 Query 루트 필드는 동시에 실행된다")
+    void executeRootFieldsConcurrently() {
+        // given
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Queue<Boolean> overlapped = new ConcurrentLinkedQueue<>();
+        List<Restaurant> restaurants = List.of(new Restaurant(1L, "맛있는 김밥", "주소1", null));
+        given(restaurantService.getRestaurantSlice(any())).willAnswer(invocation -> {
+            bothStarted.countDown();
+            overlapped.add(bothStarted.await(5, TimeUnit.SECONDS));
+            return new SliceImpl<>(restaurants);
+        });
+        given(restaurantService.searchRestaurants(anyString(), any())).willAnswer(invocation -> {
+            bothStarted.countDown();
+            overlapped.add(bothStarted.await(5, TimeUnit.SECONDS));
+            return new PageImpl<>(restaurants);
+        });
+
+        // when
+        graphQlTester.document("""
+                        {
+                          all: getRestaurants(page: 0, size: 10, sort: "id,asc") { content { id } }
+                          found: searchRestaurants(name: "김밥", page: 0, size: 10, sort: "id,asc") { content { id } }
+                        }
+                        """)
+                .execute()
+                .errors().verify();
+
+        // then
+        assertThat(overlapped).containsExactly(true, true);
+    }
+
+    /**
+     * 배치 작업이 /graphql과 같은 WebGraphQlInterceptor 체인과 요청 헤더를 거치는지 확인하기 위한 설정입니다.
+     */
+    @TestConfiguration
+    static class InterceptorConfig {
+
+        @Bean
+        WebGraphQlInterceptor headerRecordingInterceptor() {
+            return (request, chain) -> {
+                if ("batch-test".equals(request.getHeaders().getFirst("X-Client"))) {
+                    INTERCEPTED.incrementAndGet();
+                }
+                return chain.next(request);
+            };
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.restandgraphql.converter;
+
+import com.example.restandgraphql.dto.RestaurantPageResponse;
+import com.example.restandgraphql.entity.Restaurant;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 레스토랑 페이징 응답의 직렬화 포맷별 페이로드 크기와 처리 시간을 비교하는 벤치마크입니다.
+ * 일반 테스트에서는 제외되며 ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+class PayloadFormatBenchmarkTest {
+
+    private static final int PAGE_SIZE = 100;       // 페이지당 레스토랑 수
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURE_ITERATIONS = 10_000;
+
+    @Test
+    @DisplayName("JSON, CBOR, Smile, Protobuf의 페이로드 크기와 직렬화/역직렬화 시간을 비교한다")
+    void compareFormats() throws IOException {
+        RestaurantPageResponse page = samplePage();
+
+        int jsonSize = run("JSON", new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json().build()),
+                MediaType.APPLICATION_JSON, page);
+        run("CBOR", new MappingJackson2CborHttpMessageConverter(
+                Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build()),
+                MediaType.APPLICATION_CBOR, page);
+        run("Smile", new MappingJackson2SmileHttpMessageConverter(
+                Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build()),
+                new MediaType("application", "x-jackson-smile"), page);
+        int protobufSize = run("Protobuf", new RestaurantProtobufHttpMessageConverter(),
+                RestaurantProtobufHttpMessageConverter.PROTOBUF, page);
+
+        assertThat(protobufSize).isLessThan(jsonSize);
+    }
+
+    /**
+     * 하나의 포맷에 대해 페이로드 크기와 평균 직렬화/역직렬화 시간을 측정하여 출력합니다.
+     *
+     * @return 페이로드 크기 (바이트)
+     */
+    @SuppressWarnings("unchecked")
+    private int run(String name, HttpMessageConverter<?> converter, MediaType mediaType,
+                    RestaurantPageResponse page) throws IOException {
+        HttpMessageConverter<Object> objectConverter = (HttpMessageConverter<Object>) converter;
+        byte[] payload = write(objectConverter, mediaType, page);
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            read(objectConverter, write(objectConverter, mediaType, page));
+        }
+
+        long writeStart = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            write(objectConverter, mediaType, page);
+        }
+        long writeNanos = (System.nanoTime() - writeStart) / MEASURE_ITERATIONS;
+
+        long readStart = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            read(objectConverter, payload);
+        }
+        long readNanos = (System.nanoTime() - readStart) / MEASURE_ITERATIONS;
+
+        System.out.printf("%-9s size=%6d bytes  serialize=%7.2f us  deserialize=%7.2f us%n",
+                name, payload.length, writeNanos / 1000.0, readNanos / 1000.0);
+        return payload.length;
+    }
+
+    private static byte[] write(HttpMessageConverter<Object> converter, MediaType mediaType,
+                                RestaurantPageResponse page) throws IOException {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(page, mediaType, output);
+        return output.getBodyAsBytes();
+    }
+
+    private static Object read(HttpMessageConverter<Object> converter, byte[] payload) throws IOException {
+        return converter.read(RestaurantPageResponse.class, new MockHttpInputMessage(payload));
+    }
+
+    private static RestaurantPageResponse samplePage() {
+        List<Restaurant> content = new ArrayList<>();
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            content.add(new Restaurant(id, "맛있는 김밥 " + id + "호점", "서울시 강남구 역삼동 " + id + "-45", "02-1234-" + (1000 + id)));
+        }
+        return RestaurantPageResponse.builder()
+                .content(content)
+                .totalPages(10)
+                .totalElements(10L * PAGE_SIZE)
+                .size(PAGE_SIZE)
+                .number(0)
+                .build();
+    }
+}
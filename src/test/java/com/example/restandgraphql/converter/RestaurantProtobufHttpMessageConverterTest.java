@@ -0,0 +1,105 @@
+package com.example.restandgraphql.converter;
+
+import com.example.restandgraphql.dto.RestaurantPageResponse;
+import com.example.restandgraphql.entity.Restaurant;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Protobuf 메시지 컨버터 테스트 클래스입니다.
+ * 레스토랑과 페이징 응답을 쓰고 다시 읽었을 때 같은 값이 나오는지,
+ * 스키마와 와이어 타입이 다른 필드를 잘못 해석하지 않는지 테스트합니다.
+ */
+class RestaurantProtobufHttpMessageConverterTest {
+
+    private final RestaurantProtobufHttpMessageConverter converter = new RestaurantProtobufHttpMessageConverter();
+
+    @Test
+    @DisplayName("레스토랑을 Protobuf로 변환하고 다시 읽을 수 있다")
+    void roundTripRestaurant() throws IOException {
+        // given
+        Restaurant restaurant = new Restaurant(1L, "맛있는 김밥", "서울시 강남구 역삼동 123-45", null);
+
+        // when
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(restaurant, RestaurantProtobufHttpMessageConverter.PROTOBUF, output);
+        Restaurant read = (Restaurant) converter.read(Restaurant.class, new MockHttpInputMessage(output.getBodyAsBytes()));
+
+        // then
+        assertThat(read.getId()).isEqualTo(1L);
+        assertThat(read.getName()).isEqualTo("맛있는 김밥");
+        assertThat(read.getAddress()).isEqualTo("서울시 강남구 역삼동 123-45");
+        assertThat(read.getPhoneNumber()).isNull();
+    }
+
+    @Test
+    @DisplayName("페이징 응답을 Protobuf로 변환하고 다시 읽을 수 있다")
+    void roundTripPage() throws IOException {
+        // given
+        RestaurantPageResponse page = RestaurantPageResponse.builder()
+                .content(List.of(
+                        new Restaurant(1L, "맛있는 김밥", "주소1", "02-1234-5678"),
+                        new Restaurant(2L, "김밥천국", "주소2", null)))
+                .totalPages(3)
+                .totalElements(42)
+                .size(2)
+                .number(1)
+                .build();
+
+        // when
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(page, RestaurantProtobufHttpMessageConverter.PROTOBUF, output);
+        RestaurantPageResponse read = (RestaurantPageResponse) converter.read(
+                RestaurantPageResponse.class, new MockHttpInputMessage(output.getBodyAsBytes()));
+
+        // then
+        assertThat(read.getContent()).extracting(Restaurant::getName).containsExactly("맛있는 김밥", "김밥천국");
+        assertThat(read.getContent().get(0).getPhoneNumber()).isEqualTo("02-1234-5678");
+        assertThat(read.getTotalPages()).isEqualTo(3);
+        assertThat(read.getTotalElements()).isEqualTo(42);
+        assertThat(read.getSize()).isEqualTo(2);
+        assertThat(read.getNumber()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("필드 번호가 같아도 와이어 타입이 다른 필드는 건너뛴다")
+    void skipFieldWithUnexpectedWireType() throws IOException {
+        // given (id 필드를 문자열로, name 필드를 정수로 보낸 메시지)
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        CodedOutputStream output = CodedOutputStream.newInstance(body);
+        output.writeString(1, "not an id");
+        output.writeInt64(2, 42L);
+        output.writeString(3, "서울시 강남구");
+        output.flush();
+
+        // when
+        Restaurant read = (Restaurant) converter.read(Restaurant.class, new MockHttpInputMessage(body.toByteArray()));
+
+        // then
+        assertThat(read.getId()).isNull();
+        assertThat(read.getName()).isNull();
+        assertThat(read.getAddress()).isEqualTo("서울시 강남구");
+    }
+
+    @Test
+    @DisplayName("잘못된 와이어 타입의 태그는 읽기를 거부한다")
+    void rejectInvalidWireType() {
+        // given (와이어 타입 7은 Protobuf에 정의되어 있지 않음)
+        byte[] body = {(byte) (1 << 3 | 7), 0};
+
+        // when & then
+        assertThatThrownBy(() -> converter.read(Restaurant.class, new MockHttpInputMessage(body)))
+                .isInstanceOf(InvalidProtocolBufferException.class);
+    }
+}
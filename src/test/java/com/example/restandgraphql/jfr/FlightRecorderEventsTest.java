@@ -0,0 +1,180 @@
+package com.example.restandgraphql.jfr;
+
+import com.example.restandgraphql.entity.Restaurant;
+import com.example.restandgraphql.repository.RestaurantRepository;
+import graphql.ExecutionResult;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.graphql.tester.AutoConfigureHttpGraphQlTester;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.graphql.ExecutionGraphQlResponse;
+import org.springframework.graphql.ExecutionGraphQlService;
+import org.springframework.graphql.support.DefaultExecutionGraphQlRequest;
+import org.springframework.graphql.test.tester.HttpGraphQlTester;
+import org.springframework.test.web.servlet.MockMvc;
+import reactor.core.publisher.Flux;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 사용자 정의 JFR 이벤트 테스트 클래스입니다.
+ * JFR 기록을 켠 상태에서 리포지토리, REST, GraphQL 요청을 실행한 뒤
+ * 기록 파일에 각 이벤트가 올바른 값으로 남는지 테스트합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureHttpGraphQlTester
+class FlightRecorderEventsTest {
+
+    private static final String REPOSITORY_QUERY = "com.example.restandgraphql.RepositoryQuery";
+    private static final String REST_HANDLER = "com.example.restandgraphql.RestHandler";
+    private static final String JSON_SERIALIZATION = "com.example.restandgraphql.JsonSerialization";
+    private static final String GRAPHQL_FIELD_FETCH = "com.example.restandgraphql.GraphQLFieldFetch";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private HttpGraphQlTester graphQlTester;
+
+    @Autowired
+    private ExecutionGraphQlService executionGraphQlService;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @TempDir
+    private Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        restaurantRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("기록 중에는 리포지토리 호출, REST 핸들러, JSON 직렬화, GraphQL 필드 조회가 이벤트로 남는다")
+    void recordCustomEvents() throws Exception {
+        // given
+        List<Long> ids = saveRestaurants();
+
+        // when
+        List<RecordedEvent> events = record(() -> {
+            restaurantRepository.findAllById(ids);
+            mockMvc.perform(get("/v1/restaurants/" + ids.get(0))).andExpect(status().isOk());
+            graphQlTester.document("{ getRestaurants(page: 0, size: 10, sort: \"id,asc\") { content { id } } }")
+                    .execute()
+                    .errors().verify();
+        });
+
+        // then
+        assertThat(eventsNamed(events, REPOSITORY_QUERY))
+                .filteredOn(event -> event.getString("repositoryMethod").endsWith(".findAllById"))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getString("sql")).containsIgnoringCase("select").containsIgnoringCase("restaurant");
+                    assertThat(event.getLong("rowCount")).isEqualTo(3);
+                });
+        assertThat(eventsNamed(events, REST_HANDLER))
+                .filteredOn(event -> event.getString("uri").equals("/v1/restaurants/" + ids.get(0)))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getString("method")).isEqualTo("GET");
+                    assertThat(event.getString("handler")).contains("getRestaurantById");
+                    assertThat(event.getInt("status")).isEqualTo(200);
+                });
+        assertThat(eventsNamed(events, JSON_SERIALIZATION))
+                .filteredOn(event -> event.getString("valueType").equals(Restaurant.class.getName()))
+                .singleElement()
+                .satisfies(event -> assertThat(event.getLong("bytes")).isPositive());
+        assertThat(eventsNamed(events, GRAPHQL_FIELD_FETCH))
+                .filteredOn(event -> event.getString("field").equals("getRestaurants"))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getString("parentType")).isEqualTo("Query");
+                    assertThat(event.getBoolean("success")).isTrue();
+                });
+    }
+
+    @Test
+    @DisplayName("구독 필드 이벤트는 스트림이 끝날 때까지를 구간으로 기록한다")
+    void recordSubscriptionUntilStreamEnds() throws Exception {
+        // given
+        saveRestaurants();
+        DefaultExecutionGraphQlRequest request = new DefaultExecutionGraphQlRequest(
+                "subscription { streamRestaurants(page: 0, size: 10, sort: \"id,asc\") { id } }",
+                null, null, null, UUID.randomUUID().toString(), null);
+
+        // when (결과마다 30ms씩 지연시켜 스트림이 90ms 이상 이어지도록 함)
+        List<RecordedEvent> events = record(() -> {
+            ExecutionGraphQlResponse response = executionGraphQlService.execute(request).block(Duration.ofSeconds(5));
+            Publisher<ExecutionResult> stream = response.getData();
+            List<ExecutionResult> results = Flux.from(stream)
+                    .delayElements(Duration.ofMillis(30))
+                    .collectList()
+                    .block(Duration.ofSeconds(5));
+            assertThat(results).hasSize(3);
+        });
+
+        // then
+        assertThat(eventsNamed(events, GRAPHQL_FIELD_FETCH))
+                .filteredOn(event -> event.getString("field").equals("streamRestaurants"))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getDuration()).isGreaterThanOrEqualTo(Duration.ofMillis(90));
+                    assertThat(event.getBoolean("success")).isTrue();
+                });
+    }
+
+    /**
+     * 사용자 정의 이벤트를 임계값 없이 켠 JFR 기록 안에서 작업을 실행하고, 기록 파일에서 읽은 이벤트를 반환합니다.
+     */
+    private List<RecordedEvent> record(ThrowingRunnable action) throws Exception {
+        Path dump = tempDir.resolve(UUID.randomUUID() + ".jfr");
+        try (Recording recording = new Recording()) {
+            for (String eventName : List.of(REPOSITORY_QUERY, REST_HANDLER, JSON_SERIALIZATION, GRAPHQL_FIELD_FETCH)) {
+                recording.enable(eventName).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(dump);
+        }
+        return RecordingFile.readAllEvents(dump);
+    }
+
+    private static List<RecordedEvent> eventsNamed(List<RecordedEvent> events, String eventName) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(eventName))
+                .toList();
+    }
+
+    private List<Long> saveRestaurants() {
+        return restaurantRepository.saveAll(List.of(
+                        new Restaurant(null, "맛있는 김밥", "주소1", null),
+                        new Restaurant(null, "김밥천국", "주소2", null),
+                        new Restaurant(null, "떡볶이", "주소3", null)))
+                .stream()
+                .map(Restaurant::getId)
+                .toList();
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.restandgraphql.jfr;
+
+import com.example.restandgraphql.dto.FlightRecordingResponse;
+import com.example.restandgraphql.service.FlightRecordingService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.InputStreamResource;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JFR 기록 엔드포인트 테스트 클래스입니다.
+ * 기록 상태와 맞지 않는 요청이 409 응답으로 변환되는지 테스트합니다.
+ */
+class FlightRecordingEndpointTest {
+
+    private final FlightRecordingEndpoint endpoint = new FlightRecordingEndpoint(new FlightRecordingService());
+
+    @Test
+    @DisplayName("진행 중인 기록이 있을 때 다시 시작하면 409를 반환한다")
+    void conflictOnDuplicateStart() throws Exception {
+        // given
+        WebEndpointResponse<Object> first = endpoint.start(30L);
+
+        // when
+        WebEndpointResponse<Object> second = endpoint.start(30L);
+
+        // then
+        try {
+            assertThat(first.getStatus()).isEqualTo(200);
+            assertThat(first.getBody()).isInstanceOf(FlightRecordingResponse.class);
+            assertThat(second.getStatus()).isEqualTo(409);
+        } finally {
+            try (InputStream recording = endpoint.stop().getBody().getInputStream()) {
+                recording.transferTo(OutputStream.nullOutputStream());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("진행 중인 기록이 없을 때 종료하면 409를 반환한다")
+    void conflictOnStopWithoutRecording() {
+        // when
+        WebEndpointResponse<InputStreamResource> response = endpoint.stop();
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(409);
+        assertThat(response.getBody()).isNull();
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.restandgraphql.limit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 적응형 동시 처리 리미터 테스트 클래스입니다.
+ * 한도 초과 시 거절, 권한 반납, 지연 시간에 따른 한도 조절을 테스트합니다.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    @DisplayName("한도를 초과한 요청은 즉시 거절된다")
+    void rejectWhenLimitReached() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 2, 1, 10, 0.2, 1.5, 10);
+
+        // when
+        Optional<AdaptiveConcurrencyLimiter.Permit> first = limiter.tryAcquire();
+        Optional<AdaptiveConcurrencyLimiter.Permit> second = limiter.tryAcquire();
+        Optional<AdaptiveConcurrencyLimiter.Permit> third = limiter.tryAcquire();
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(second).isPresent();
+        assertThat(third).isEmpty();
+        assertThat(limiter.getInflight()).isEqualTo(2);
+        assertThat(limiter.getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("권한을 반납하면 다시 요청을 처리할 수 있다")
+    void acquireAfterRelease() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 1, 1, 10, 0.2, 1.5, 10);
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire().orElseThrow();
+
+        // when
+        permit.release();
+        permit.release(); // 중복 반납은 무시되어야 함
+
+        // then
+        assertThat(limiter.getInflight()).isZero();
+        assertThat(limiter.tryAcquire()).isPresent();
+    }
+
+    @Test
+    @DisplayName("실패한 요청이 반복되면 한도가 하한까지 줄어든다")
+    void shrinkLimitOnDrop() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 10, 2, 10, 0.2, 1.5, 10);
+
+        // when
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire().orElseThrow().releaseDropped();
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("지연 시간이 안정적이면 한도가 늘어난다")
+    void growLimitWhenLatencyIsStable() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 10, 2, 100, 0.2, 1.5, 10);
+        limiter.onSample(TimeUnit.MILLISECONDS.toNanos(1), 10); // 장기 평균 초기화
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            limiter.onSample(TimeUnit.MILLISECONDS.toNanos(1), limiter.getLimit());
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isGreaterThan(10);
+    }
+
+    @Test
+    @DisplayName("한도의 절반도 사용하지 않으면 지연 시간이 안정적이어도 한도를 늘리지 않는다")
+    void keepLimitWhenUnderused() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 10, 2, 100, 0.2, 1.5, 10);
+        limiter.onSample(TimeUnit.MILLISECONDS.toNanos(1), 10);
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            limiter.onSample(TimeUnit.MILLISECONDS.toNanos(1), 1);
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("지연 시간이 평균보다 크게 늘어나면 한도가 줄어든다")
+    void shrinkLimitWhenLatencyRises() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 50, 2, 100, 0.2, 1.5, 10);
+        limiter.onSample(TimeUnit.MILLISECONDS.toNanos(1), 50);
+        int before = limiter.getLimit();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            limiter.onSample(TimeUnit.MILLISECONDS.toNanos(10), limiter.getLimit());
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isLessThan(before);
+    }
+
+    @Test
+    @DisplayName("재시도 대기 시간은 장기 평균 지연 시간을 올림한 초 단위로 계산된다")
+    void retryAfterFollowsLongRtt() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 10, 2, 100, 0.2, 1.5, 10);
+        long before = limiter.getRetryAfterSeconds();
+
+        // when
+        limiter.onSample(TimeUnit.MILLISECONDS.toNanos(2500), 10);
+
+        // then
+        assertThat(before).isEqualTo(1);
+        assertThat(limiter.getRetryAfterSeconds()).isEqualTo(3);
+    }
+}
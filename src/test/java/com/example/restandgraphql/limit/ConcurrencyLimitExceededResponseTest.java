@@ -0,0 +1,73 @@
+package com.example.restandgraphql.limit;
+
+import com.example.restandgraphql.exception.ConcurrencyLimitExceededException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.graphql.tester.AutoConfigureHttpGraphQlTester;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.graphql.test.tester.HttpGraphQlTester;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 동시 처리 한도 초과 응답 테스트 클래스입니다.
+ * 한도를 초과한 요청이 REST에서는 503과 Retry-After 헤더로,
+ * GraphQL에서는 SERVICE_UNAVAILABLE 에러로 변환되는지 테스트합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureHttpGraphQlTester
+class ConcurrencyLimitExceededResponseTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private HttpGraphQlTester graphQlTester;
+
+    @MockitoBean
+    private ConcurrencyLimiters concurrencyLimiters;
+
+    @BeforeEach
+    void setUp() {
+        given(concurrencyLimiters.acquire(anyBoolean()))
+                .willThrow(new ConcurrencyLimitExceededException("read", 3));
+    }
+
+    @Test
+    @DisplayName("REST 요청이 한도를 초과하면 503과 Retry-After 헤더를 반환한다")
+    void restReturnsServiceUnavailable() throws Exception {
+        mockMvc.perform(get("/v1/restaurants/1"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "3"))
+                .andExpect(jsonPath("$.status").value(503))
+                .andExpect(jsonPath("$.error").value("Service Unavailable"));
+    }
+
+    @Test
+    @DisplayName("GraphQL 요청이 한도를 초과하면 SERVICE_UNAVAILABLE 에러를 반환한다")
+    void graphQLReturnsServiceUnavailableError() {
+        graphQlTester.document("{ suggestRestaurants(prefix: \"ㄱ\") { id } }")
+                .execute()
+                .errors()
+                .satisfy(errors -> {
+                    assertThat(errors).hasSize(1);
+                    assertThat(errors.get(0).getPath()).isEqualTo("suggestRestaurants");
+                    assertThat(errors.get(0).getExtensions())
+                            .containsEntry("code", "SERVICE_UNAVAILABLE")
+                            .containsEntry("retryAfter", 3);
+                });
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.restandgraphql.limit;
+
+import com.example.restandgraphql.controller.RestaurantController;
+import com.example.restandgraphql.dto.RestaurantLookupRequest;
+import com.example.restandgraphql.entity.Restaurant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * REST 동시 처리 한도 인터셉터 테스트 클래스입니다.
+ * 요청이 조회 리미터와 변경 리미터 중 어느 쪽을 사용하는지,
+ * 요청 완료 후 권한을 지연 시간 표본 또는 한도 감소로 반납하는지 테스트합니다.
+ */
+class RestConcurrencyLimitInterceptorTest {
+
+    private final ConcurrencyLimiters concurrencyLimiters = mock(ConcurrencyLimiters.class);
+    private final RestConcurrencyLimitInterceptor interceptor = new RestConcurrencyLimitInterceptor(concurrencyLimiters);
+    private final RestaurantController controller = mock(RestaurantController.class);
+
+    @Test
+    @DisplayName("본문을 받는 조회 핸들러는 POST여도 조회 리미터를 사용한다")
+    void readOnlyPostUsesReadLimiter() throws Exception {
+        // given
+        HandlerMethod handler = new HandlerMethod(controller,
+                RestaurantController.class.getMethod("lookupRestaurants", RestaurantLookupRequest.class));
+
+        // when
+        interceptor.preHandle(new MockHttpServletRequest("POST", "/v1/restaurants/lookup"),
+                new MockHttpServletResponse(), handler);
+
+        // then
+        verify(concurrencyLimiters).acquire(false);
+    }
+
+    @Test
+    @DisplayName("데이터를 변경하는 POST 핸들러는 변경 리미터를 사용한다")
+    void mutationUsesMutationLimiter() throws Exception {
+        // given
+        HandlerMethod handler = new HandlerMethod(controller,
+                RestaurantController.class.getMethod("createRestaurant", Restaurant.class));
+
+        // when
+        interceptor.preHandle(new MockHttpServletRequest("POST", "/v1/restaurants"),
+                new MockHttpServletResponse(), handler);
+
+        // then
+        verify(concurrencyLimiters).acquire(true);
+    }
+
+    @Test
+    @DisplayName("예외 핸들러가 처리한 일시적인 DB 장애는 한도 감소로 반영한다")
+    void dropWhenHandledExceptionIsTransient() throws Exception {
+        // given
+        AdaptiveConcurrencyLimiter limiter = givenLimiter();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/restaurants/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, handler());
+        request.setAttribute(DispatcherServlet.EXCEPTION_ATTRIBUTE, new QueryTimeoutException("timeout"));
+        response.setStatus(500);
+
+        // when (처리된 예외는 afterCompletion에 null로 전달됨)
+        interceptor.afterCompletion(request, response, handler(), null);
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(18);
+        assertThat(limiter.getInflight()).isZero();
+    }
+
+    @Test
+    @DisplayName("5xx 응답으로 끝난 요청은 한도 감소로 반영한다")
+    void dropOnServerError() throws Exception {
+        // given
+        AdaptiveConcurrencyLimiter limiter = givenLimiter();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/restaurants/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, handler());
+        response.setStatus(500);
+
+        // when
+        interceptor.afterCompletion(request, response, handler(), null);
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(18);
+        assertThat(limiter.getInflight()).isZero();
+    }
+
+    @Test
+    @DisplayName("정상 처리된 요청은 한도를 줄이지 않고 권한을 반납한다")
+    void releaseOnSuccess() throws Exception {
+        // given
+        AdaptiveConcurrencyLimiter limiter = givenLimiter();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/restaurants/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, handler());
+
+        // when
+        interceptor.afterCompletion(request, response, handler(), null);
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(20);
+        assertThat(limiter.getInflight()).isZero();
+    }
+
+    private AdaptiveConcurrencyLimiter givenLimiter() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("read", 20, 1, 200, 0.2, 2.0, 100);
+        given(concurrencyLimiters.acquire(false)).willAnswer(invocation -> limiter.tryAcquire().orElseThrow());
+        return limiter;
+    }
+
+    private HandlerMethod handler() throws NoSuchMethodException {
+        return new HandlerMethod(controller, RestaurantController.class.getMethod("getRestaurantById", Long.class));
+    }
+}
@@ -1,16 +1,22 @@
 package com.example.restandgraphql.repository;
 
+import com.example.restandgraphql.dto.RestaurantPage;
 import com.example.restandgraphql.entity.Restaurant;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
  * 레스토랑 리포지토리 테스트 클래스입니다.
- * 기본적인 CRUD 작업을 테스트합니다.
+ * 기본적인 CRUD 작업과 개수 조회 없는 페이징을 테스트합니다.
  */
 @DataJpaTest
 class RestaurantRepositoryTest {
@@ -70,4 +76,49 @@ class RestaurantRepositoryTest {
         // then
         assertThat(restaurantRepository.findById(savedRestaurant.getId())).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("개수 조회 없이 페이지를 조회하고 다음 페이지 존재 여부를 알 수 있다")
+    void findSlice() {
+        // given
+        saveRestaurants(5);
+
+        // when
+        Slice<Restaurant> first = restaurantRepository.findSliceBy(PageRequest.of(0, 2, Sort.by("name")));
+        Slice<Restaurant> last = restaurantRepository.findSliceBy(PageRequest.of(2, 2, Sort.by("name")));
+
+        // then
+        assertThat(first.getContent()).extracting(Restaurant::getName).containsExactly("레스토랑 1", "레스토랑 2");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.getContent()).extracting(Restaurant::getName).containsExactly("레스토랑 5");
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Slice로 만든 페이지는 전체 개수가 처음 요청될 때 한 번만 개수를 조회한다")
+    void countLazily() {
+        // given
+        saveRestaurants(5);
+        AtomicInteger countQueries = new AtomicInteger();
+        Slice<Restaurant> slice = restaurantRepository.findSliceBy(PageRequest.of(0, 2, Sort.by("name")));
+
+        // when
+        RestaurantPage page = new RestaurantPage(slice, () -> {
+            countQueries.incrementAndGet();
+            return restaurantRepository.count();
+        });
+
+        // then
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(countQueries).hasValue(0);
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.getTotalPages()).isEqualTo(3);
+        assertThat(countQueries).hasValue(1);
+    }
+
+    private void saveRestaurants(int count) {
+        for (int i = 1; i <= count; i++) {
+            restaurantRepository.save(new Restaurant(null, "레스토랑 " + i, "주소 " + i, null));
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.restandgraphql.service;
+
+import com.example.restandgraphql.dto.FlightRecordingResponse;
+import com.example.restandgraphql.exception.FlightRecordingStateException;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JFR 기록 서비스 테스트 클래스입니다.
+ * 기록 시작/종료, 기록 시간 상한, 민감한 JDK 이벤트 제외를 테스트합니다.
+ */
+class FlightRecordingServiceTest {
+
+    private final FlightRecordingService flightRecordingService = new FlightRecordingService();
+
+    @Test
+    @DisplayName("기록을 시작하고 멈추면 .jfr 파일을 얻을 수 있다")
+    void startAndStop() throws Exception {
+        // given
+        FlightRecordingResponse response = flightRecordingService.start(Duration.ofHours(1));
+
+        // when
+        Path file = flightRecordingService.stop();
+
+        // then
+        try {
+            assertThat(response.getDuration()).isEqualTo(Duration.ofMinutes(10)); // 상한 적용
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertThat(events).isNotEmpty();
+            assertThat(events).extracting(event -> event.getEventType().getName())
+                    .doesNotContain("jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty",
+                            "jdk.JVMInformation", "jdk.SystemProcess");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("진행 중인 기록이 있으면 새 기록을 시작할 수 없다")
+    void rejectConcurrentRecording() {
+        // given
+        flightRecordingService.start(Duration.ofSeconds(30));
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> flightRecordingService.start(Duration.ofSeconds(30)))
+                    .isInstanceOf(IllegalStateException.class);
+        } finally {
+            flightRecordingService.stop().toFile().delete();
+        }
+    }
+
+    @Test
+    @DisplayName("기록 시간이 지나 자동으로 멈춘 기록이 있어도 새 기록을 시작할 수 있다")
+    void restartAfterAutoStop() throws InterruptedException {
+        // given
+        flightRecordingService.start(Duration.ofSeconds(1));
+
+        // when
+        FlightRecordingResponse restarted = null;
+        for (int i = 0; i < 50 && restarted == null; i++) { // 자동 종료를 최대 5초까지 기다림
+            Thread.sleep(100);
+            try {
+                restarted = flightRecordingService.start(Duration.ofSeconds(30));
+            } catch (IllegalStateException ex) {
+                // 아직 기록 중
+            }
+        }
+
+        // then
+        try {
+            assertThat(restarted).isNotNull();
+        } finally {
+            flightRecordingService.stop().toFile().delete();
+        }
+    }
+
+    @Test
+    @DisplayName("진행 중인 기록이 없으면 종료할 수 없다")
+    void rejectStopWithoutRecording() {
+        assertThatThrownBy(flightRecordingService::stop)
+                .isInstanceOf(FlightRecordingStateException.class);
+    }
+}
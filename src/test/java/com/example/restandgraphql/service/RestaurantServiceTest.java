@@ -0,0 +1,189 @@
+package com.example.restandgraphql.service;
+
+import com.example.restandgraphql.dto.RestaurantLookupResponse;
+import com.example.restandgraphql.entity.Restaurant;
+import com.example.restandgraphql.repository.RestaurantRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 레스토랑 서비스 테스트 클래스입니다.
+ * 스트리밍 조회와 여러 ID 조회를 테스트합니다.
+ * 스트리밍 조회는 별도 스레드에서 실행되므로 테스트 트랜잭션 없이 커밋된 데이터로 테스트합니다.
+ */
+@DataJpaTest
+@Import({RestaurantService.class, RestaurantSuggestIndex.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RestaurantServiceTest {
+
+    @Autowired
+    private RestaurantService restaurantService;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @AfterEach
+    void tearDown() {
+        restaurantRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("요청한 페이지의 레스토랑을 순서대로 스트리밍한다")
+    void streamPage() {
+        // given
+        saveRestaurants(5);
+
+        // when
+        List<Restaurant> restaurants = restaurantService.streamRestaurants(PageRequest.of(1, 2, Sort.by("name")))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(restaurants).extracting(Restaurant::getName).containsExactly("레스토랑 3", "레스토랑 4");
+    }
+
+    @Test
+    @DisplayName("한 번에 조회하는 묶음보다 큰 페이지도 순서대로 끝까지 스트리밍한다")
+    void streamPageAcrossBatches() {
+        // given
+        List<Long> ids = saveRestaurants(230);
+
+        // when
+        List<Restaurant> all = restaurantService.streamRestaurants(PageRequest.of(0, 230, Sort.by("id")))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+        List<Restaurant> lastPage = restaurantService.streamRestaurants(PageRequest.of(1, 150, Sort.by("id")))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(all).extracting(Restaurant::getId).containsExactlyElementsOf(ids);
+        assertThat(lastPage).extracting(Restaurant::getId).containsExactlyElementsOf(ids.subList(150, 230));
+    }
+
+    @Test
+    @DisplayName("구독자가 요청한 개수만큼만 발행한다")
+    void emitOnlyRequested() throws InterruptedException {
+        // given
+        saveRestaurants(5);
+        List<Restaurant> received = new CopyOnWriteArrayList<>();
+        CountDownLatch firstReceived = new CountDownLatch(1);
+        BaseSubscriber<Restaurant> subscriber = new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                request(1);
+            }
+
+            @Override
+            protected void hookOnNext(Restaurant restaurant) {
+                received.add(restaurant);
+                firstReceived.countDown();
+            }
+        };
+
+        // when
+        restaurantService.streamRestaurants(PageRequest.of(0, 5, Sort.by("name"))).subscribe(subscriber);
+
+        // then
+        try {
+            assertThat(firstReceived.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(200); // 추가 요청 없이 더 발행되지 않는지 확인
+            assertThat(received).hasSize(1);
+        } finally {
+            subscriber.cancel();
+        }
+    }
+
+    @Test
+    @DisplayName("여러 ID 조회는 중복을 제거하고 요청한 순서대로 반환하며 없는 ID를 알려준다")
+    void getRestaurantsByIds() {
+        // given
+        List<Long> ids = saveRestaurants(3);
+        long missingId = ids.get(2) + 100;
+
+        // when
+        RestaurantLookupResponse response = restaurantService.getRestaurantsByIds(
+                Arrays.asList(ids.get(2), ids.get(0), missingId, ids.get(2), ids.get(1)));
+
+        // then
+        assertThat(response.getContent()).extracting(Restaurant::getId)
+                .containsExactly(ids.get(2), ids.get(0), ids.get(1));
+        assertThat(response.getMissingIds()).containsExactly(missingId);
+    }
+
+    @Test
+    @DisplayName("한 번의 IN 쿼리 크기를 넘는 ID도 나누어 조회하고 요청 순서를 유지한다")
+    void getRestaurantsByIdsInChunks() {
+        // given
+        List<Long> ids = new ArrayList<>(saveRestaurants(600));
+        Collections.reverse(ids);
+        long maxId = ids.get(0);
+        List<Long> missingIds = LongStream.rangeClosed(maxId + 1, maxId + 10).boxed().toList();
+        List<Long> requestIds = new ArrayList<>(ids);
+        requestIds.addAll(missingIds);
+
+        // when
+        RestaurantLookupResponse response = restaurantService.getRestaurantsByIds(requestIds);
+
+        // then
+        assertThat(response.getContent()).extracting(Restaurant::getId).containsExactlyElementsOf(ids);
+        assertThat(response.getMissingIds()).containsExactlyElementsOf(missingIds);
+    }
+
+    @Test
+    @DisplayName("빈 ID가 포함되거나 최대 개수를 넘는 ID 조회는 거부한다")
+    void rejectInvalidIds() {
+        List<Long> tooManyIds = LongStream.rangeClosed(1, 1001).boxed().toList();
+
+        assertThatThrownBy(() -> restaurantService.getRestaurantsByIds(Arrays.asList(1L, null, 2L)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> restaurantService.getRestaurantsByIds(tooManyIds))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("최대 개수는 중복을 제거한 ID 수로 판단한다")
+    void countUniqueIdsAgainstLimit() {
+        // given
+        List<Long> ids = new ArrayList<>(LongStream.rangeClosed(1, 1000).boxed().toList());
+        ids.addAll(List.of(1L, 2L, 3L));
+
+        // when
+        RestaurantLookupResponse response = restaurantService.getRestaurantsByIds(ids);
+
+        // then
+        assertThat(response.getContent()).isEmpty();
+        assertThat(response.getMissingIds()).hasSize(1000);
+    }
+
+    private List<Long> saveRestaurants(int count) {
+        List<Restaurant> restaurants = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            restaurants.add(new Restaurant(null, "레스토랑 " + i, "주소 " + i, null));
+        }
+        return restaurantRepository.saveAll(restaurants).stream().map(Restaurant::getId).toList();
+    }
+}
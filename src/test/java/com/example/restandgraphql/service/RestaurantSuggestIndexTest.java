@@ -0,0 +1,133 @@
+package com.example.restandgraphql.service;
+
+import com.example.restandgraphql.dto.RestaurantSuggestion;
+import com.example.restandgraphql.entity.Restaurant;
+import com.example.restandgraphql.repository.RestaurantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 레스토랑 자동완성 인덱스 테스트 클래스입니다.
+ * 접두사/초성 검색, 인기순 정렬, 변경 반영과 상위 항목 수를 넘는 노드의 순위 유지를 테스트합니다.
+ */
+class RestaurantSuggestIndexTest {
+
+    private RestaurantSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new RestaurantSuggestIndex(mock(RestaurantRepository.class));
+        index.put(new Restaurant(1L, "맛있는 김밥", "주소1", null));
+        index.put(new Restaurant(2L, "김밥천국", "주소2", null));
+        index.put(new Restaurant(3L, "Kimchi House", "주소3", null));
+    }
+
+    @Test
+    @DisplayName("입력 중인 한글과 초성으로 레스토랑을 찾을 수 있다")
+    void suggestByJamoAndChoseong() {
+        assertThat(index.suggest("김ㅂ", 10)).extracting(RestaurantSuggestion::getId).containsExactly(2L, 1L);
+        assertThat(index.suggest("ㄱㅂ", 10)).extracting(RestaurantSuggestion::getId).containsExactly(2L, 1L);
+        assertThat(index.suggest("맛있는김", 10)).extracting(RestaurantSuggestion::getId).containsExactly(1L);
+        assertThat(index.suggest("kim", 10)).extracting(RestaurantSuggestion::getId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("조회수가 많은 레스토랑이 먼저 반환된다")
+    void rankByPopularity() {
+        // when
+        index.recordView(1L);
+        index.applyPendingViews();
+
+        // then
+        assertThat(index.suggest("김", 10)).extracting(RestaurantSuggestion::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("이름 변경과 삭제가 인덱스에 반영된다")
+    void reflectUpdateAndDelete() {
+        // when
+        index.put(new Restaurant(2L, "떡볶이", "주소2", null));
+        index.remove(1L);
+
+        // then
+        assertThat(index.suggest("김", 10)).isEmpty();
+        assertThat(index.suggest("ㄸ", 10)).extracting(RestaurantSuggestion::getName).containsExactly("떡볶이");
+    }
+
+    @Test
+    @DisplayName("상위 항목 수보다 많은 레스토랑이 일치해도 삭제와 인기도 변경 후 순위가 올바르게 유지된다")
+    void keepTopRankingBeyondMaxSuggestions() {
+        // given (김밥집 1 ~ 김밥집 25, ID 101 ~ 125)
+        RestaurantSuggestIndex largeIndex = new RestaurantSuggestIndex(mock(RestaurantRepository.class));
+        for (long id = 101; id <= 125; id++) {
+            largeIndex.put(new Restaurant(id, "김밥집 " + (id - 100), "주소", null));
+        }
+        recordViews(largeIndex, 125L, 3);
+        recordViews(largeIndex, 124L, 2);
+        largeIndex.applyPendingViews();
+
+        // when (삭제하면 순위 밖에 있던 항목이 상위 항목으로 올라와야 함)
+        largeIndex.remove(125L);
+
+        // then
+        assertThat(largeIndex.suggest("김밥집", RestaurantSuggestIndex.MAX_SUGGESTIONS))
+                .extracting(RestaurantSuggestion::getId)
+                .containsExactlyElementsOf(ranking(124L, 119));
+
+        // when (순위 밖에 있던 항목의 인기도가 오르면 밀려난 항목 없이 순위에 들어와야 함)
+        recordViews(largeIndex, 123L, 5);
+        largeIndex.applyPendingViews();
+
+        // then
+        List<Long> expected = new ArrayList<>(List.of(123L));
+        expected.addAll(ranking(124L, 118));
+        assertThat(largeIndex.suggest("김밥집", RestaurantSuggestIndex.MAX_SUGGESTIONS))
+                .extracting(RestaurantSuggestion::getId)
+                .containsExactlyElementsOf(expected);
+        assertThat(largeIndex.suggest("ㄱㅂㅈ", 1)).extracting(RestaurantSuggestion::getId).containsExactly(123L);
+    }
+
+    @Test
+    @DisplayName("초기 적재 중 삭제된 레스토랑은 다시 색인되지 않는다")
+    void skipRemovedDuringLoad() {
+        // given
+        RestaurantRepository repository = mock(RestaurantRepository.class);
+        RestaurantSuggestIndex loadingIndex = new RestaurantSuggestIndex(repository);
+        given(repository.findAll()).willAnswer(invocation -> {
+            loadingIndex.remove(5L); // 전체 조회 직후 다른 요청이 삭제한 상황
+            return List.of(
+                    new Restaurant(5L, "삭제된 김밥", "주소5", null),
+                    new Restaurant(6L, "김밥나라", "주소6", null));
+        });
+
+        // when
+        loadingIndex.load();
+
+        // then
+        assertThat(loadingIndex.suggest("김", 10)).extracting(RestaurantSuggestion::getId).containsExactly(6L);
+    }
+
+    private static void recordViews(RestaurantSuggestIndex index, Long id, int count) {
+        for (int i = 0; i < count; i++) {
+            index.recordView(id);
+        }
+    }
+
+    /**
+     * 인기도가 가장 높은 항목 다음에 이름이 짧은 순, 이름순(ID 101부터 lastId까지)으로 이어지는 예상 순위를 만듭니다.
+     */
+    private static List<Long> ranking(Long first, long lastId) {
+        List<Long> ids = new ArrayList<>(List.of(first));
+        LongStream.rangeClosed(101, lastId).forEach(ids::add);
+        return ids;
+    }
+}